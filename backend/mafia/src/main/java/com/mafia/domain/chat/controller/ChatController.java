@@ -44,7 +44,7 @@ public class ChatController {
 
 
     @GetMapping("/api/chat")
-    @Operation(summary = "최근 채팅 메시지 조회", description = "특정 게임 채널의 최근 채팅 메시지를 조회합니다.")
+    @Operation(summary = "채팅 메시지 조회", description = "특정 게임 채널의 최근 채팅 메시지를 조회합니다. after / before 에 메시지 ID를 주면 그 이후 / 이전 메시지를 조회합니다.")
     public ResponseEntity<BaseResponse<List<ChatMessage>>> getRecentMessages(
         @Parameter(description = "조회할 게임 ID와 타입") GetMessageRequest req,
         @RequestParam @Parameter(description = "최근 메시지 개수") int count, @AuthenticationPrincipal @Parameter(hidden = true) StompPrincipal detail) {
@@ -10,6 +10,9 @@ import lombok.Setter;
 @Schema(description = "채팅 메시지 DTO")
 public class ChatMessage {
 
+    @Schema(description = "메시지 ID (조회 시에만 채워지며 이전/이후 조회 커서로 사용)", example = "1739512345678-0")
+    private String id;
+
     @Schema(description = "게임 ID", example = "12345")
     private long gameId;
 
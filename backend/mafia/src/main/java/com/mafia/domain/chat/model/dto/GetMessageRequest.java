@@ -15,4 +15,10 @@ public class GetMessageRequest {
 
     @Schema(description = "채팅 타입 (room, day, night, dead)", example = "room")
     private ChatType chatType;
+
+    @Schema(description = "이 메시지 ID 이후의 메시지만 조회 (재접속 시 놓친 메시지)", example = "1739512345678-0")
+    private String after;
+
+    @Schema(description = "이 메시지 ID 이전의 메시지만 조회 (이전 기록 페이지)", example = "1739512345678-0")
+    private String before;
 }
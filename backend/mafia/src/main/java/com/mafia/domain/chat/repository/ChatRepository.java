@@ -1,53 +1,148 @@
 package com.mafia.domain.chat.repository;
 
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mafia.domain.chat.model.dto.ChatMessage;
+import com.mafia.domain.chat.model.enumerate.ChatType;
+import com.mafia.global.common.service.ReplayBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.ListOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
+/**
+ * 채널별 채팅 기록을 Redis Stream(game:{id}:chat:{type})에 저장하는 리포지토리.
+ * <p>
+ * XADD MAXLEN ~ 로 채널당 약 150개만 유지하며, 스트림 ID를 커서로 써서 특정 메시지 이전/이후를 조회한다. 항목은
+ * 필드 단위로 저장하므로 조회 시 JSON 파싱이 없다. 실시간으로 보내는 메시지에도 같은 스트림 ID(id)를 넣어, 클라이언트가
+ * 마지막으로 받은 ID를 재접속 시 after 커서로 쓸 수 있다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class ChatRepository {
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final long MAX_LENGTH = 150;
+    private static final String CONTENT = "content";
+
+    // KEYS[1]: 채팅 스트림, KEYS[2]: 재전송 스트림 / ARGV[1]: 최대 길이, ARGV[2]: 내용, ARGV[3]: 채널,
+    // ARGV[4]: 발행할 JSON, ARGV[5]: 재전송 스트림 최대 길이, ARGV[6]: 재전송 스트림 TTL(ms)
+    // XADD로 받은 ID를 메시지의 id 필드에 넣고, 재전송 스트림의 순번을 붙여 발행한다 (ReplayBuffer)
+    private static final RedisScript<String> SAVE_AND_PUBLISH = new DefaultRedisScript<>("""
+        local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'content', ARGV[2])
+        local message = cjson.decode(ARGV[4])
+        message['id'] = id
+        local payload = cjson.encode(message)
+        local seq = redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[5], '*', 'p', payload)
+        redis.call('PEXPIRE', KEYS[2], ARGV[6])
+        redis.call('PUBLISH', ARGV[3], seq .. '\\n' .. payload)
+        return id
+        """, String.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String getChatKey(long gameId, ChatType chatType) {
+        return "game:" + gameId + ":chat:" + chatType; // 채널별 키 구분
+    }
 
     /**
-     * 특정 채팅 채널에 메시지 저장 (최대 150개 유지)
+     * 특정 채팅 채널에 메시지 저장 (약 150개 유지)
+     *
+     * @return 저장된 메시지의 스트림 ID
      */
-    public void saveMessage(ChatMessage message) {
-        ListOperations<String, String> listOps = redisTemplate.opsForList();
-        try {
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            String redisKey = "game:" + message.getGameId() + ":" + message.getChatType(); // 채널별 키 구분
-            listOps.rightPush(redisKey, jsonMessage);
-            listOps.trim(redisKey, -150, -1); // 150개 초과 시 오래된 메시지 삭제
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to convert ChatMessage to JSON", e);
-        }
+    public String saveMessage(ChatMessage message) {
+        RecordId id = redisTemplate.execute((RedisCallback<RecordId>) connection ->
+            connection.streamCommands().xAdd(toRecord(message), trimOptions()));
+        return id == null ? null : id.getValue();
     }
 
     /**
-     * 특정 채팅 채널의 최근 N개 메시지 가져오기
+     * 메시지 저장, 재전송 버퍼 기록과 Redis Pub/Sub 발행을 한 번의 스크립트로 처리 - 발행되는 JSON에 스트림 ID(id)가
+     * 추가된다
+     *
+     * @param payload        발행할 JSON 객체
+     * @param replayCapacity 재전송 버퍼의 채널별 보관 수
+     * @return 저장된 메시지의 스트림 ID
      */
-    public List<ChatMessage> getRecentMessages(String roomId, String chatType, int count) {
-        ListOperations<String, String> listOps = redisTemplate.opsForList();
-        String redisKey = "game:" + roomId + ":" + chatType; // 채널별 키 구분
-        List<String> messages = listOps.range(redisKey, -count, -1); // 최신 count개 메시지 가져오기
-        return messages.stream().map(json -> {
-            try {
-                return objectMapper.readValue(json, ChatMessage.class);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("Failed to parse JSON to ChatMessage", e);
-            }
-        }).collect(Collectors.toList());
+    public String saveAndPublish(ChatMessage message, String topic, String payload, int replayCapacity) {
+        String content = message.getContent() == null ? "" : message.getContent();
+        return redisTemplate.execute(SAVE_AND_PUBLISH,
+            List.of(getChatKey(message.getGameId(), message.getChatType()), ReplayBuffer.streamKey(topic)),
+            String.valueOf(MAX_LENGTH), content, topic, payload, String.valueOf(replayCapacity),
+            String.valueOf(ReplayBuffer.IDLE_TTL_MILLIS));
+    }
+
+    /**
+     * 특정 채팅 채널의 최근 N개 메시지 가져오기 (오래된 순)
+     */
+    public List<ChatMessage> getRecentMessages(long gameId, ChatType chatType, int count) {
+        List<ChatMessage> messages = reverseRange(gameId, chatType, Range.unbounded(), count);
+        Collections.reverse(messages);
+        return messages;
     }
-}
 
+    /**
+     * 커서(afterId) 이후의 메시지를 오래된 순으로 최대 N개 가져오기 (재접속 시 놓친 메시지 조회)
+     */
+    public List<ChatMessage> getMessagesAfter(long gameId, ChatType chatType, String afterId, int count) {
+        List<MapRecord<String, String, String>> records = redisTemplate.<String, String>opsForStream()
+            .range(getChatKey(gameId, chatType), Range.leftOpen(afterId, "+"), Limit.limit().count(count));
+        return toMessages(gameId, chatType, records);
+    }
+
+    /**
+     * 커서(beforeId) 이전의 메시지를 오래된 순으로 최대 N개 가져오기 (이전 기록 페이지)
+     */
+    public List<ChatMessage> getMessagesBefore(long gameId, ChatType chatType, String beforeId, int count) {
+        List<ChatMessage> messages = reverseRange(gameId, chatType, Range.rightOpen("-", beforeId), count);
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    private List<ChatMessage> reverseRange(long gameId, ChatType chatType, Range<String> range, int count) {
+        List<MapRecord<String, String, String>> records = redisTemplate.<String, String>opsForStream()
+            .reverseRange(getChatKey(gameId, chatType), range, Limit.limit().count(count));
+        return toMessages(gameId, chatType, records);
+    }
+
+    private MapRecord<byte[], byte[], byte[]> toRecord(ChatMessage message) {
+        byte[] key = getChatKey(message.getGameId(), message.getChatType()).getBytes(StandardCharsets.UTF_8);
+        byte[] content = message.getContent() == null ? new byte[0]
+            : message.getContent().getBytes(StandardCharsets.UTF_8);
+        return StreamRecords.newRecord()
+            .in(key)
+            .ofMap(Map.of(CONTENT.getBytes(StandardCharsets.UTF_8), content));
+    }
+
+    private static XAddOptions trimOptions() {
+        return XAddOptions.maxlen(MAX_LENGTH).approximateTrimming(true);
+    }
+
+    private static List<ChatMessage> toMessages(long gameId, ChatType chatType,
+        List<MapRecord<String, String, String>> records) {
+        if (records == null) {
+            return new ArrayList<>();
+        }
+        List<ChatMessage> messages = new ArrayList<>(records.size());
+        for (MapRecord<String, String, String> record : records) {
+            ChatMessage message = new ChatMessage();
+            message.setId(record.getId().getValue());
+            message.setGameId(gameId);
+            message.setChatType(chatType);
+            message.setContent(record.getValue().get(CONTENT));
+            messages.add(message);
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,181 @@
+package com.mafia.domain.chat.service;
+
+import com.mafia.domain.chat.model.StompPrincipal;
+import com.mafia.domain.game.model.dto.GameEndEvent;
+import com.mafia.domain.game.model.dto.GamePhaseChangedEvent;
+import com.mafia.domain.game.model.dto.GameStartEvent;
+import com.mafia.domain.member.model.dto.NicknameChangedEvent;
+import com.mafia.domain.room.model.dto.RoomLeftEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * 채팅 전송 경로의 권한 확인 결과와 닉네임 캐시.
+ * <p>
+ * 사용자별로 "이 채널에 보낼 수 있다"는 확인 결과와 닉네임을 보관한다. 게임 채널 권한은 페이즈 전환(사망 처리 포함),
+ * 게임 시작/종료 시 게임 단위로, 방 채널 권한은 퇴장/강퇴 시 방 단위로 비우고, 닉네임은 변경 시 비운다. 비울 때는
+ * chat-auth:evict 채널로 다른 노드에도 알린다. Pub/Sub 메시지는 유실될 수 있으므로 권한과 닉네임 모두 TTL이 지나면 다시
+ * 확인한다. 권한의 TTL은 확인한 시점부터 권한마다 잰다.
+ * <p>
+ * 비우기는 범위의 세대를 올린다. 확인하는 동안 비우기가 끝났으면 확인 결과가 이미 낡았을 수 있으므로, 확인 전에 읽은 세대가
+ * 그대로일 때만 기록한다.
+ */
+@Slf4j
+@Component
+public class ChatAuthCache implements MessageListener {
+
+    private static final long GRANT_TTL_MILLIS = 30_000;
+    private static final long NICKNAME_TTL_MILLIS = 60_000;
+    private static final String EVICT_CHANNEL = "chat-auth:evict"; // game-* / room-* 패턴과 겹치지 않게
+    private static final String NICKNAME_PREFIX = "nickname:";
+
+    // "game-{id}" / "room-{id}" -> 확인된 권한
+    private final Map<String, Grants> grantsByScope = new ConcurrentHashMap<>();
+    private final Map<Long, Nickname> nicknames = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong(); // 범위가 지워졌다 다시 생겨도 세대가 겹치지 않게 전역으로 센다
+    private final StringRedisTemplate redisTemplate;
+
+    public ChatAuthCache(StringRedisTemplate redisTemplate, RedisMessageListenerContainer container) {
+        this.redisTemplate = redisTemplate;
+        container.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 캐시에 확인 결과가 없으면 check를 실행하고(권한이 없으면 예외) 통과한 결과를 기록한다.
+     */
+    public void authorize(String scope, String topic, Long memberId, Runnable check) {
+        String grantKey = grantKey(memberId, topic);
+        Grants grants = grantsByScope.computeIfAbsent(scope, key -> new Grants(generations.incrementAndGet()));
+        Long grantedAt = grants.granted.get(grantKey);
+        if (grantedAt != null && System.currentTimeMillis() - grantedAt < GRANT_TTL_MILLIS) {
+            return;
+        }
+
+        long generation = grants.generation; // 확인 전에 읽은 세대
+        check.run();
+
+        long now = System.currentTimeMillis();
+        grantsByScope.computeIfPresent(scope, (key, current) -> {
+            if (current.generation == generation) { // 확인하는 동안 비워졌으면 기록하지 않는다
+                current.granted.put(grantKey, now);
+            }
+            return current;
+        });
+    }
+
+    public String nickname(Long memberId, Supplier<String> loader) {
+        long now = System.currentTimeMillis();
+        Nickname cached = nicknames.get(memberId);
+        if (cached != null && now - cached.loadedAt() < NICKNAME_TTL_MILLIS) {
+            return cached.value();
+        }
+        String nickname = loader.get();
+        nicknames.put(memberId, new Nickname(nickname, now));
+        return nickname;
+    }
+
+    @EventListener
+    public void onPhaseChanged(GamePhaseChangedEvent event) {
+        broadcast(gameScope(event.getGameId()));
+    }
+
+    @EventListener
+    public void onGameStart(GameStartEvent event) {
+        broadcast(gameScope(event.getGameId()));
+    }
+
+    @EventListener
+    public void onGameEnd(GameEndEvent event) {
+        broadcast(gameScope(event.getGameId()));
+    }
+
+    @EventListener
+    public void onRoomLeft(RoomLeftEvent event) {
+        broadcast("room-" + event.getRoomId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true) // 커밋 후에 비워야 이전 닉네임이 다시 캐시되지 않는다
+    public void onNicknameChanged(NicknameChangedEvent event) {
+        broadcast(NICKNAME_PREFIX + event.getMemberId());
+    }
+
+    /**
+     * 다른 노드(또는 자신)가 보낸 캐시 비우기 요청
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (event.getUser() instanceof StompPrincipal principal) {
+            nicknames.remove(principal.getMemberId());
+        }
+    }
+
+    // 이벤트 없이 끝난 방/게임의 만료된 권한과 만료된 닉네임 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        grantsByScope.values().removeIf(grants -> {
+            grants.granted.values().removeIf(grantedAt -> now - grantedAt >= GRANT_TTL_MILLIS);
+            return grants.granted.isEmpty();
+        });
+        nicknames.values().removeIf(nickname -> now - nickname.loadedAt() >= NICKNAME_TTL_MILLIS);
+    }
+
+    // 이 노드는 바로 비우고, 다른 노드에는 Pub/Sub으로 알린다
+    private void broadcast(String target) {
+        evict(target);
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, target);
+        } catch (RuntimeException e) {
+            log.warn("[ChatAuthCache] 캐시 비우기 전파 실패 ({}): {}", target, e.getMessage());
+        }
+    }
+
+    private void evict(String target) {
+        if (target.startsWith(NICKNAME_PREFIX)) {
+            nicknames.remove(Long.valueOf(target.substring(NICKNAME_PREFIX.length())));
+        } else {
+            grantsByScope.computeIfPresent(target, (key, current) -> new Grants(generations.incrementAndGet()));
+        }
+    }
+
+    private static String gameScope(Long gameId) {
+        return "game-" + gameId;
+    }
+
+    private static String grantKey(Long memberId, String topic) {
+        return memberId + ":" + topic;
+    }
+
+    private record Nickname(String value, long loadedAt) {
+
+    }
+
+    private static final class Grants {
+
+        private final long generation;
+        private final Map<String, Long> granted = new ConcurrentHashMap<>(); // 권한 -> 확인한 시각
+
+        private Grants(long generation) {
+            this.generation = generation;
+        }
+    }
+}
@@ -1,18 +1,46 @@
 package com.mafia.domain.chat.service;
 
-import org.springframework.data.redis.core.StringRedisTemplate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.chat.model.dto.ChatMessage;
+import com.mafia.domain.chat.repository.ChatRepository;
+import com.mafia.global.common.config.StompBrokerProperties;
+import com.mafia.global.common.service.ReplayBuffer;
+import com.mafia.global.common.service.StompDispatcher;
+import java.util.Map;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ChatPublisher {
 
-    private final StringRedisTemplate redisTemplate;
+    private final ChatRepository chatRepository;
+    private final StompDispatcher dispatcher;
+    private final ReplayBuffer replayBuffer;
+    private final ObjectMapper objectMapper;
+    private final boolean relay;
 
-    public ChatPublisher(StringRedisTemplate redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    public ChatPublisher(ChatRepository chatRepository, StompDispatcher dispatcher, ReplayBuffer replayBuffer,
+        ObjectMapper objectMapper, StompBrokerProperties brokerProperties) {
+        this.chatRepository = chatRepository;
+        this.dispatcher = dispatcher;
+        this.replayBuffer = replayBuffer;
+        this.objectMapper = objectMapper;
+        this.relay = brokerProperties.isRelay();
     }
 
-    public void publish(String topic, String message) {
-        redisTemplate.convertAndSend(topic, message);
+    /**
+     * 채팅 기록 저장과 발행. 보내는 메시지에는 저장된 스트림 ID(id)가 함께 들어간다. Redis Pub/Sub을 쓰는 경우 저장과
+     * 발행을 한 번의 스크립트로 보낸다. 어느 경우든 재전송 버퍼에 남기고 받은 순번을 함께 보낸다.
+     */
+    public void publish(String topic, Map<String, String> message, ChatMessage history)
+        throws JsonProcessingException {
+        if (relay) { // 브로커가 모든 노드의 구독자에게 전달하므로 Redis Pub/Sub을 거치지 않는다
+            message.put("id", chatRepository.saveMessage(history));
+            String payload = objectMapper.writeValueAsString(message);
+            dispatcher.dispatch(topic, payload, replayBuffer.append(topic, payload));
+            return;
+        }
+        chatRepository.saveAndPublish(history, topic, objectMapper.writeValueAsString(message),
+            replayBuffer.getCapacity());
     }
 }
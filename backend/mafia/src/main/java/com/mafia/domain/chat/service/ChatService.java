@@ -1,10 +1,10 @@
 package com.mafia.domain.chat.service;
 
+import static com.mafia.global.common.model.dto.BaseResponseStatus.BAD_REQUEST;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.MEMBER_NOT_FOUND;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.NOT_PERMISSION_CHAT;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mafia.domain.chat.model.dto.ChatMessage;
 import com.mafia.domain.chat.model.dto.GetMessageRequest;
 import com.mafia.domain.chat.model.enumerate.ChatType;
@@ -12,7 +12,6 @@ import com.mafia.domain.chat.repository.ChatRepository;
 import com.mafia.domain.game.model.game.Game;
 import com.mafia.domain.game.model.game.Player;
 import com.mafia.domain.game.service.GameService;
-import com.mafia.domain.member.model.dto.response.MemberResponse;
 import com.mafia.domain.member.service.MemberService;
 import com.mafia.domain.room.model.redis.Participant;
 import com.mafia.domain.room.model.redis.RoomInfo;
@@ -21,6 +20,7 @@ import com.mafia.global.common.exception.exception.BusinessException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -46,7 +46,9 @@ public class ChatService {
 
     private final MemberService memberService; // 사용자 정보 조회
 
-    private final ObjectMapper objectMapper;
+    private final ChatAuthCache authCache; // 채널 권한 확인 결과, 닉네임 캐시
+
+    private static final Pattern STREAM_ID = Pattern.compile("\\d{1,20}(-\\d{1,20})?");
 
     /**
      * 특정 게임의 채팅 채널을 검증하여 Redis Pub/Sub 채널 토픽을 반환
@@ -59,15 +61,20 @@ public class ChatService {
      */
     private String getvalidGameTopic(Long gameId, ChatType type, Long memberId){
 
-        Game game = gameService.findById(gameId);
-        Player player = game.getPlayers().get(memberId);
+        String topic ="game-" + gameId + "-" + type + "-chat";
 
-        if (player == null) throw new BusinessException(MEMBER_NOT_FOUND);
+        authCache.authorize("game-" + gameId, topic, memberId, () -> {
+            // 읽기 전용 조회 - 다른 노드가 진행 중인 게임이면 Redis에서 읽은 복사본으로 확인한다
+            Game game = gameService.findById(gameId);
+            synchronized (game) {
+                Player player = game.getPlayers().get(memberId);
 
-        String topic ="game-" + gameId + "-" + type + "-chat";
+                if (player == null) throw new BusinessException(MEMBER_NOT_FOUND);
 
-        // 플레이어가 해당 채널을 구독하고 있는지 확인
-        if (!player.isSubscribed(topic)) throw new BusinessException(NOT_PERMISSION_CHAT);
+                // 플레이어가 해당 채널을 구독하고 있는지 확인
+                if (!player.isSubscribed(topic)) throw new BusinessException(NOT_PERMISSION_CHAT);
+            }
+        });
 
         return topic; // Redis Pub/Sub 채널
     }
@@ -82,16 +89,22 @@ public class ChatService {
      */
     private String getvalidRoomTopic(Long roomId, Long memberId){
 
-        RoomInfo room = roomService.findById(roomId);
-        Participant participant = room.getParticipant().get(memberId);
+        String topic = "room-" + roomId + "-chat";
+
+        authCache.authorize("room-" + roomId, topic, memberId, () -> {
+            RoomInfo room = roomService.findById(roomId);
+            Participant participant = room.getParticipant().get(memberId);
 
-        if (participant == null) throw new BusinessException(MEMBER_NOT_FOUND);
+            if (participant == null) throw new BusinessException(MEMBER_NOT_FOUND);
+        });
 
-        return "room-" + roomId + "-chat"; // Redis Pub/Sub 채널
+        return topic; // Redis Pub/Sub 채널
     }
 
     /**
      * 플레이어가 채팅 메시지를 보내면 검증 후 저장 및 Redis Pub/Sub으로 전송
+     * <p>
+     * 권한 확인과 닉네임은 캐시에서 읽으므로 캐시가 채워진 뒤에는 저장과 발행 파이프라인 한 번만 Redis에 보낸다.
      *
      * @param message  전송할 채팅 메시지
      * @param memberId 요청한 사용자 ID
@@ -105,27 +118,24 @@ public class ChatService {
 
         if(type == ChatType.ROOM) topic = getvalidRoomTopic(gameId, memberId); // Room
         else topic = getvalidGameTopic(gameId, type, memberId); //Game(day, night, dead)
-        chatRepository.saveMessage(message);
 
-        MemberResponse memberInfo = memberService.getMemberInfo(memberId);
+        String nickname = authCache.nickname(memberId,
+            () -> memberService.getMemberInfo(memberId).getNickname());
 
-        // JSON 형태로 메시지 구성
+        // JSON 형태로 메시지 구성 (스트림 ID는 저장하면서 추가된다)
         Map<String, String> payload = new HashMap<>();
-        payload.put("nickname", memberInfo.getNickname()); // 닉네임 추가
+        payload.put("nickname", nickname); // 닉네임 추가
         payload.put("content", content); // 메시지 내용 추가
 
-        // JSON 변환
-        String jsonMessage = objectMapper.writeValueAsString(payload);
-
-        // Redis Pub/Sub을 통해 메시지 전송
-        chatPublisher.publish(topic, jsonMessage);
+        // 채팅 기록 저장 + Redis Pub/Sub을 통해 메시지 전송
+        chatPublisher.publish(topic, payload, message);
 
         log.info("📨 플레이어 [{}]님이 [{}] 채널에 메시지를 보냈습니다: {}",
-            memberInfo.getNickname(), topic, content);
+            nickname, topic, content);
     }
 
     /**
-     * 특정 채팅 채널의 최근 채팅 메시지 조회
+     * 특정 채팅 채널의 채팅 메시지 조회 (after / before 커서가 있으면 해당 메시지 이후 / 이전, 없으면 최근 메시지)
      *
      * @param req      채팅 메시지 조회 요청 DTO (게임 ID 포함)
      * @param count    가져올 메시지 개수
@@ -139,6 +149,20 @@ public class ChatService {
         String topic;
         if(type == ChatType.ROOM) topic = getvalidRoomTopic(gameId, memberId); // Room
         else topic = getvalidGameTopic(gameId, type, memberId); //Game(day, night, dead)
-        return chatRepository.getRecentMessages(String.valueOf(gameId), type.toString(), count);
+        if (req.getAfter() != null) {
+            return chatRepository.getMessagesAfter(gameId, type, parseCursor(req.getAfter()), count);
+        }
+        if (req.getBefore() != null) {
+            return chatRepository.getMessagesBefore(gameId, type, parseCursor(req.getBefore()), count);
+        }
+        return chatRepository.getRecentMessages(gameId, type, count);
+    }
+
+    // 스트림 ID 형식("{ms}-{seq}" 또는 "{ms}")이 아니면 Redis 오류 대신 잘못된 요청으로 응답한다
+    private static String parseCursor(String cursor) {
+        if (!STREAM_ID.matcher(cursor).matches()) {
+            throw new BusinessException(BAD_REQUEST);
+        }
+        return cursor;
     }
 }
\ No newline at end of file
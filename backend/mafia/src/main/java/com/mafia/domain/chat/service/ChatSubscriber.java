@@ -1,27 +1,29 @@
 package com.mafia.domain.chat.service;
 
+import com.mafia.global.common.service.ReplayBuffer;
+import com.mafia.global.common.service.StompDispatcher;
+import java.nio.charset.StandardCharsets;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
 public class ChatSubscriber implements MessageListener {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompDispatcher dispatcher;
 
-    public ChatSubscriber(SimpMessagingTemplate messagingTemplate) {
-        this.messagingTemplate = messagingTemplate;
+    public ChatSubscriber(StompDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
     }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        String msg = new String(message.getBody());
-        String channel = new String(pattern);
-        // WebSocket을 통해 클라이언트에게 메시지 전달
-        messagingTemplate.convertAndSend("/topic/" + channel, msg);
+        String msg = new String(message.getBody(), StandardCharsets.UTF_8);
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8); // 패턴 구독이므로 실제 채널명 사용
+        // WebSocket 전송은 디스패처가 채팅방별 순서를 지켜 처리한다
+        ReplayBuffer.Entry entry = ReplayBuffer.unwrap(msg); // 발행할 때 붙인 재전송 순번
+        dispatcher.dispatch(channel, entry.payload(), entry.seq());
     }
 }
-
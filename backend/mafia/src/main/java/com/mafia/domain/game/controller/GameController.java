@@ -73,7 +73,6 @@ public class GameController {
     @Operation(summary = "Vote", description = "유저 ID와 타겟 ID를 받아 투표합니다.(투표 시간에만 가능합니다.")
     public ResponseEntity<BaseResponse<String>> vote(@PathVariable Long roomId,
         @AuthenticationPrincipal AuthenticatedUser detail, @RequestParam Integer targetNo) {
-        gameService.validatePhase(roomId, GamePhase.DAY_VOTE);
         gameService.vote(roomId, detail.getMemberId(), targetNo);
         return ResponseEntity.ok(new BaseResponse<>(
             "Player " + detail.getMemberId() + " voted for " + targetNo + " in Room " + roomId + "."));
@@ -81,9 +80,9 @@ public class GameController {
 
     @GetMapping("/{roomId}/finalvote")
     @Operation(summary = "Vote", description = "각유저의 투표 대상 처형을 최종 투표합니다.(마지막 투표 시간에만 가능합니다.")
-    public ResponseEntity<BaseResponse<String>> vote(@PathVariable Long roomId) {
-        gameService.validatePhase(roomId, GamePhase.DAY_FINAL_VOTE);
-        gameService.finalVote(roomId);
+    public ResponseEntity<BaseResponse<String>> vote(@PathVariable Long roomId,
+        @AuthenticationPrincipal AuthenticatedUser detail) {
+        gameService.finalVote(roomId, detail.getMemberId());
         return ResponseEntity.ok(new BaseResponse<>("난 찬성!"));
     }
 
@@ -100,7 +99,6 @@ public class GameController {
     public ResponseEntity<BaseResponse<String>> setTarget(@PathVariable Long roomId,
         @AuthenticationPrincipal AuthenticatedUser detail, @RequestParam Integer targetNo)
         throws JsonProcessingException {
-        gameService.validatePhase(roomId, GamePhase.NIGHT_ACTION);
         String result = gameService.setTarget(roomId, detail.getMemberId(), targetNo);
         return ResponseEntity.ok(
             new BaseResponse<>(result));
@@ -1,43 +1,81 @@
 package com.mafia.domain.game.controller;
 
-import com.mafia.domain.chat.model.StompPrincipal;
 import com.mafia.domain.game.model.pos.PlayerPosition;
+import com.mafia.domain.game.model.pos.PositionCodec;
+import com.mafia.domain.game.service.DisconnectGraceTracker;
+import com.mafia.domain.game.service.PositionAggregator;
+import com.mafia.global.common.utils.AuthenticationUtil;
+import java.security.Principal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
+/**
+ * 플레이어 위치 수신.
+ * <p>
+ * 클라이언트는 세션마다 형식을 고른다. 바이너리 클라이언트는 /pos.bin 으로 보내고 ({@link PositionCodec} 12바이트
+ * 프레임), JSON 클라이언트는 기존 /pos 를 쓴다. 받은 위치는 바로 중계하지 않고 {@link PositionAggregator}에 모아
+ * 스냅샷 주기마다 받는 사람별로 걸러 /user/queue/game/{roomId}/positions 로 보낸다.
+ */
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class GamePositionController {
 
-    private final SimpMessagingTemplate template;
+    private final PositionAggregator positionAggregator;
+    private final DisconnectGraceTracker graceTracker;
     /*
     TODO :
        사망한 플레이어 위치 처리 - Game 클래스의 Kill 메서드와 연동
        방 삭제 시 위치 정보 정리
      * */
 
+    // 플레이어 번호는 클라이언트가 보낸 값을 쓰지 않고 보낸 사람의 게임 번호로 채운다
     @MessageMapping("/game/{roomId}/pos")
-    @SendTo("/topic/game/{roomId}/positions")
-    public PlayerPosition updatePosition(PlayerPosition position) {
+    public void updatePosition(@DestinationVariable String roomId, PlayerPosition position,
+        Principal principal) {
+        Long memberId = AuthenticationUtil.memberIdOf(principal);
+        if (memberId == null) {
+            return;
+        }
+        byte[] frame = new byte[PositionCodec.FRAME_SIZE];
+        PositionCodec.encode(position, frame, 0);
+        positionAggregator.update(roomId, memberId, frame);
+    }
 
-        return position;
+    @MessageMapping("/game/{roomId}/pos.bin")
+    public void updatePositionBinary(@DestinationVariable String roomId, @Payload byte[] frame,
+        Principal principal) {
+        Long memberId = AuthenticationUtil.memberIdOf(principal);
+        if (memberId == null || !PositionCodec.isValid(frame)) {
+            log.debug("[GamePositionController] 잘못된 위치 프레임 (room: {}, length: {})", roomId,
+                frame == null ? 0 : frame.length);
+            return;
+        }
+        positionAggregator.update(roomId, memberId, frame);
+    }
+
+    @EventListener
+    public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
+        Long memberId = AuthenticationUtil.memberIdOf(event.getUser());
+        if (memberId != null) {
+            log.info("Client disconnected : {}", memberId);
+            graceTracker.disconnected(memberId, event.getSessionId()); // 유예 시간 안에 재접속하지 않으면 묶어서 알린다
+        }
     }
 
     @EventListener
-    public void handleWebSocketDisconnectListener(SessionDisconnectEvent event)
-        throws InterruptedException {
-        StompPrincipal detail = (StompPrincipal) event.getUser();
-        if (detail != null) {
-            log.info("Client disconnected : {}", detail.getMemberId());
-            Thread.sleep(4000);
-            template.convertAndSend("/topic/game/disconnect", detail.getMemberId());
+    public void handleWebSocketConnectListener(SessionConnectedEvent event) {
+        Long memberId = AuthenticationUtil.memberIdOf(event.getUser());
+        if (memberId != null) {
+            graceTracker.connected(memberId, StompHeaderAccessor.wrap(event.getMessage()).getSessionId());
         }
     }
-}
\ No newline at end of file
+}
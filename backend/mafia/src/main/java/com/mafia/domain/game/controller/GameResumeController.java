@@ -0,0 +1,74 @@
+package com.mafia.domain.game.controller;
+
+import com.mafia.domain.game.model.dto.ResumeRequest;
+import com.mafia.domain.game.model.dto.ResumeResponse;
+import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.Player;
+import com.mafia.domain.game.service.GameService;
+import com.mafia.global.common.service.ReplayBuffer;
+import com.mafia.global.common.utils.AuthenticationUtil;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 재접속한 클라이언트에게 끊긴 동안 놓친 게임 메시지를 다시 보낸다.
+ * <p>
+ * 클라이언트는 채널별로 마지막으로 받은 seq 헤더를 /app/game/{gameId}/resume 으로 보내고,
+ * /user/queue/game/{gameId}/resume 으로 채널별 결과를 받는다. reset 인 채널은 REST로 게임 정보를 다시 불러온다.
+ * 재전송 버퍼는 Redis에 있으므로 끊기기 전과 다른 노드로 재접속해도 이어받을 수 있다.
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class GameResumeController {
+
+    private final GameService gameService;
+    private final ReplayBuffer replayBuffer;
+    private final SimpMessagingTemplate template;
+
+    @MessageMapping("/game/{gameId}/resume")
+    public void resume(@DestinationVariable Long gameId, ResumeRequest request, Principal principal) {
+        Long memberId = AuthenticationUtil.memberIdOf(principal);
+        if (memberId == null) {
+            return;
+        }
+        Map<String, String> cursors = request.getCursors() == null ? Map.of() : request.getCursors();
+
+        Game game = gameService.findById(gameId); // 읽기 전용 조회 (다른 노드의 게임이면 Redis 복사본)
+        List<String> allowed = new ArrayList<>();
+        synchronized (game) {
+            Player player = game.getPlayers().get(memberId);
+            if (player == null) {
+                return;
+            }
+            // 자신이 구독할 수 있는 이 게임의 채널만 재전송한다
+            cursors.keySet().stream()
+                .filter(channel -> channel.startsWith("game-" + gameId + "-") && player.isSubscribed(channel))
+                .forEach(allowed::add);
+        }
+
+        List<ResumeResponse> responses = new ArrayList<>(allowed.size());
+        for (String channel : allowed) {
+            String lastSeq = cursors.get(channel);
+            if (lastSeq == null) {
+                responses.add(ResumeResponse.reset(channel));
+                continue;
+            }
+            responses.add(replayBuffer.since(channel, lastSeq)
+                .map(replay -> new ResumeResponse(channel, false, replay.messages(), replay.latest()))
+                .orElseGet(() -> ResumeResponse.reset(channel)));
+        }
+
+        log.info("[GameResumeController] 게임 {} 플레이어 {} 재접속 재전송 ({}개 채널)", gameId,
+            memberId, responses.size());
+        template.convertAndSendToUser(principal.getName(), "/queue/game/" + gameId + "/resume", responses);
+    }
+}
@@ -1,18 +1,32 @@
 package com.mafia.domain.game.event;
 
-import org.springframework.data.redis.core.StringRedisTemplate;
+import com.mafia.global.common.config.StompBrokerProperties;
+import com.mafia.global.common.service.ReplayBuffer;
+import com.mafia.global.common.service.StompDispatcher;
 import org.springframework.stereotype.Service;
 
 @Service
 public class GamePublisher {
 
-    private final StringRedisTemplate redisTemplate;
+    private final ReplayBuffer replayBuffer;
+    private final StompDispatcher dispatcher;
+    private final boolean relay;
 
-    public GamePublisher(StringRedisTemplate redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    public GamePublisher(ReplayBuffer replayBuffer, StompDispatcher dispatcher,
+        StompBrokerProperties brokerProperties) {
+        this.replayBuffer = replayBuffer;
+        this.dispatcher = dispatcher;
+        this.relay = brokerProperties.isRelay();
     }
 
+    /**
+     * 재전송 버퍼에 남기고 받은 순번과 함께 발행한다.
+     */
     public void publish(String topic, String message) {
-        redisTemplate.convertAndSend(topic, message);
+        if (relay) { // 브로커가 모든 노드의 구독자에게 전달하므로 Redis Pub/Sub을 거치지 않는다
+            dispatcher.dispatch(topic, message, replayBuffer.append(topic, message));
+            return;
+        }
+        replayBuffer.appendAndPublish(topic, message);
     }
 }
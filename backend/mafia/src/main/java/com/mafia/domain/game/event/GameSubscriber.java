@@ -1,29 +1,50 @@
 package com.mafia.domain.game.event;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.global.common.service.ReplayBuffer;
+import com.mafia.global.common.service.StompDispatcher;
+import java.nio.charset.StandardCharsets;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
 public class GameSubscriber implements MessageListener {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    public static final String TYPE = "type"; // 시스템 메시지 종류 필드
+    public static final String TYPE_TIMER = "timer"; // 페이즈 종료 시각 (최신 값만 전송)
 
-    public GameSubscriber(SimpMessagingTemplate messagingTemplate) {
-        this.messagingTemplate = messagingTemplate;
+    private final StompDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+
+    public GameSubscriber(StompDispatcher dispatcher, ObjectMapper objectMapper) {
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        String msg = new String(message.getBody());
-        String channel = new String(pattern);
+        ReplayBuffer.Entry entry = ReplayBuffer.unwrap(new String(message.getBody(), StandardCharsets.UTF_8));
+        String msg = entry.payload();
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8); // 패턴 구독이므로 실제 채널명 사용
 
-        // WebSocket을 통해 클라이언트에게 메시지 전달
-        messagingTemplate.convertAndSend("/topic/" + channel, msg);
+        // WebSocket 전송은 디스패처가 게임별 순서를 지켜 처리한다
+        if (entry.seq() == null && isTimer(msg)) { // 타이머 메시지는 순번 없이 최신 값만 보내면 된다
+            dispatcher.dispatchLatest(channel, msg);
+        } else { // 투표 결과, 사망 등은 순서대로 모두 전송
+            dispatcher.dispatch(channel, msg, entry.seq());
+        }
         //log.info("📩 Redis Message Send: channel={}, message={}", channel, msg);
     }
-}
 
+    private boolean isTimer(String msg) {
+        try {
+            return TYPE_TIMER.equals(objectMapper.readTree(msg).path(TYPE).asText(null));
+        } catch (JsonProcessingException e) { // JSON이 아니면 일반 메시지로 순서대로 보낸다
+            return false;
+        }
+    }
+}
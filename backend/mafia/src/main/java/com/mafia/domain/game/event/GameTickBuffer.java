@@ -0,0 +1,124 @@
+package com.mafia.domain.game.event;
+
+import com.mafia.domain.game.repository.GameLeaseRepository;
+import com.mafia.domain.game.repository.GameLeaseRepository.FencedBatch;
+import com.mafia.domain.game.service.GameLeaseManager;
+import com.mafia.global.common.config.StompBrokerProperties;
+import com.mafia.global.common.service.ReplayBuffer;
+import com.mafia.global.common.service.StompDispatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 타이머 틱에서 발생하는 Redis 명령(타이머 저장, 시스템 채널 publish)을 모아 두었다가 한 번의 파이프라인으로 전송한다.
+ * <p>
+ * 타이밍 휠이 슬롯마다 {@link #flush()}를 호출하므로 노드의 Redis 왕복 횟수는 게임 수가 아니라 슬롯 수에 비례한다.
+ * STOMP 브로커 relay 모드에서는 타이머 메시지를 Redis로 publish 하지 않고 바로 브로커로 보낸다. 어느 경우든 채널의 마지막
+ * 타이머 메시지는 재전송 버퍼의 latest 키({@link ReplayBuffer#latestKey})에 저장해 어느 노드로 재접속해도 받을 수 있게 한다.
+ * <p>
+ * 저장할 값은 쌓을 때가 아니라 전송할 때 읽는다. 그 사이 시간 단축 등으로 값이 바뀌어도 최신 값이 저장되고, 게임이 끝나
+ * 값이 없어지면(null) 저장하지 않아 삭제된 키가 다시 생기지 않는다.
+ * <p>
+ * 명령은 쌓을 때의 lease owner 값과 함께 fencing 스크립트로 전송되므로, 그 사이 lease가 다른 노드로 넘어갔으면 Redis에서
+ * 버려진다. 소유하지 않은 게임의 명령은 쌓지 않는다.
+ */
+@Component
+public class GameTickBuffer {
+
+    private final StompDispatcher dispatcher;
+    private final GameLeaseManager leaseManager;
+    private final GameLeaseRepository leaseRepository;
+    private final boolean relay;
+
+    private final Queue<PendingMessage> messages = new ConcurrentLinkedQueue<>();
+    private final Map<String, PendingValue> values = new ConcurrentHashMap<>(); // 같은 key는 한 번만 저장
+
+    public GameTickBuffer(StompDispatcher dispatcher,
+        GameLeaseManager leaseManager, GameLeaseRepository leaseRepository,
+        StompBrokerProperties brokerProperties) {
+        this.dispatcher = dispatcher;
+        this.leaseManager = leaseManager;
+        this.leaseRepository = leaseRepository;
+        this.relay = brokerProperties.isRelay();
+    }
+
+    public void publish(long gameId, String topic, String message) {
+        String owner = leaseManager.ownerOf(gameId);
+        if (owner == null) {
+            return;
+        }
+        values.put(ReplayBuffer.latestKey(topic),
+            new PendingValue(gameId, owner, () -> message, ReplayBuffer.IDLE_TTL_MILLIS));
+        if (relay) {
+            dispatcher.dispatchLatest(topic, message);
+            return;
+        }
+        messages.add(new PendingMessage(gameId, owner, topic, message));
+    }
+
+    /**
+     * 다음 전송 때 key에 저장한다. 값은 전송 시점에 읽으며 null이면 저장하지 않는다.
+     */
+    public void set(long gameId, String key, Supplier<String> value) {
+        String owner = leaseManager.ownerOf(gameId);
+        if (owner != null) {
+            values.put(key, new PendingValue(gameId, owner, value, 0));
+        }
+    }
+
+    /**
+     * 아직 전송하지 않은 key의 저장을 취소한다. (게임 종료 등)
+     */
+    public void discard(String key) {
+        values.remove(key);
+    }
+
+    /**
+     * 쌓인 명령을 한 번의 파이프라인으로 전송한다. (publish 순서는 유지된다)
+     */
+    public void flush() {
+        if (messages.isEmpty() && values.isEmpty()) {
+            return;
+        }
+
+        List<PendingMessage> publishes = new ArrayList<>();
+        PendingMessage message;
+        while ((message = messages.poll()) != null) {
+            publishes.add(message);
+        }
+        List<Map.Entry<String, PendingValue>> sets = new ArrayList<>();
+        for (String key : values.keySet()) {
+            PendingValue pending = values.remove(key);
+            if (pending != null) {
+                sets.add(Map.entry(key, pending));
+            }
+        }
+
+        FencedBatch batch = leaseRepository.batch();
+        for (Map.Entry<String, PendingValue> entry : sets) {
+            PendingValue pending = entry.getValue();
+            String value = pending.value().get();
+            if (value != null) {
+                batch.set(pending.gameId(), pending.owner(), entry.getKey(), value, pending.ttlMillis());
+            }
+        }
+        for (PendingMessage pending : publishes) {
+            batch.publish(pending.gameId(), pending.owner(), pending.topic(), pending.message());
+        }
+        leaseRepository.execute(batch);
+    }
+
+    private record PendingValue(long gameId, String owner, Supplier<String> value, long ttlMillis) {
+
+    }
+
+    private record PendingMessage(long gameId, String owner, String topic, String message) {
+
+    }
+}
@@ -0,0 +1,37 @@
+package com.mafia.domain.game.model.dto;
+
+/**
+ * 게임 변경 명령 - 다른 노드가 진행 중인 게임이면 lease를 가진 노드로 보내 처리한다.
+ *
+ * @param playerNo 명령을 보낸 사용자 ID (스킵, 삭제는 null)
+ * @param targetNo 투표/타겟 대상 번호
+ * @param seconds  단축할 토론 시간 (스킵)
+ * @param version  게임 버전 (삭제 시 게임 로그에 기록)
+ */
+public record GameCommand(Type type, long gameId, Long playerNo, Integer targetNo, Integer seconds,
+                          String version) {
+
+    public enum Type {
+        VOTE, FINAL_VOTE, TARGET, SKIP, DELETE
+    }
+
+    public static GameCommand vote(long gameId, Long playerNo, Integer targetNo) {
+        return new GameCommand(Type.VOTE, gameId, playerNo, targetNo, null, null);
+    }
+
+    public static GameCommand finalVote(long gameId, Long playerNo) {
+        return new GameCommand(Type.FINAL_VOTE, gameId, playerNo, null, null, null);
+    }
+
+    public static GameCommand target(long gameId, Long playerNo, Integer targetNo) {
+        return new GameCommand(Type.TARGET, gameId, playerNo, targetNo, null, null);
+    }
+
+    public static GameCommand skip(long gameId, int seconds) {
+        return new GameCommand(Type.SKIP, gameId, null, null, seconds, null);
+    }
+
+    public static GameCommand delete(long gameId, String version) {
+        return new GameCommand(Type.DELETE, gameId, null, null, null, version);
+    }
+}
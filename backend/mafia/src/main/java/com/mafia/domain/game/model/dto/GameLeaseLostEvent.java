@@ -0,0 +1,10 @@
+package com.mafia.domain.game.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class GameLeaseLostEvent {
+    private final Long gameId;
+}
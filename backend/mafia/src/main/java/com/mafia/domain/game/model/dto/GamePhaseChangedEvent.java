@@ -0,0 +1,12 @@
+package com.mafia.domain.game.model.dto;
+
+import com.mafia.domain.game.model.game.GamePhase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class GamePhaseChangedEvent {
+    private final Long gameId;
+    private final GamePhase phase;
+}
@@ -0,0 +1,11 @@
+package com.mafia.domain.game.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class GameTimerSkipEvent {
+    private final Long gameId;
+    private final int seconds;
+}
@@ -0,0 +1,18 @@
+package com.mafia.domain.game.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "재접속 시 놓친 메시지 재전송 요청")
+public class ResumeRequest {
+
+    @Schema(description = "채널별 마지막으로 받은 seq 헤더 (받은 메시지가 없으면 \"0\")",
+        example = "{\"game-1-system\": \"1718000000000-0\"}")
+    private Map<String, String> cursors;
+}
@@ -0,0 +1,29 @@
+package com.mafia.domain.game.model.dto;
+
+import com.mafia.global.common.service.ReplayBuffer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "채널별 재전송 결과")
+public class ResumeResponse {
+
+    @Schema(description = "채널", example = "game-1-system")
+    private final String channel;
+
+    @Schema(description = "재전송할 수 없어 REST로 다시 불러와야 하는지 여부", example = "false")
+    private final boolean reset;
+
+    @Schema(description = "놓친 메시지 (seq 순)")
+    private final List<ReplayBuffer.Entry> messages;
+
+    @Schema(description = "마지막 타이머 메시지", example = "{\"time\": \"30\"}")
+    private final String latest;
+
+    public static ResumeResponse reset(String channel) {
+        return new ResumeResponse(channel, true, List.of(), null);
+    }
+}
@@ -1,5 +1,6 @@
 package com.mafia.domain.game.model.game;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.mafia.domain.room.model.redis.Participant;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -9,9 +10,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -48,6 +48,9 @@ public class Game implements Serializable { // 필드정리
         allowableValues = {"PLAYING", "CITIZEN_WIN", "ZOMBIE_WIN", "MUTANT_WIN"})
     private GameStatus gameStatus;
 
+    @Schema(description = "게임의 현재 페이즈", example = "DAY_DISCUSSION")
+    private GamePhase phase;
+
     @Schema(description = "현재 라운드에서 의사가 치료 대상으로 지정한 플레이어의 ID", example = "101")
     private Integer healTarget = 0;
 
@@ -57,12 +60,47 @@ public class Game implements Serializable { // 필드정리
     @Schema(description = "게임 옵션")
     private GameOption setting;
 
+    @Schema(description = "마지막으로 반영된 게임 이벤트 번호", example = "42")
+    private long eventSeq;
+
+    @Schema(description = "이벤트 스트림 구분 값 (게임마다 새로 발급)", example = "5f0c1d2e-...")
+    private String eventEpoch;
+
+    // players, map_players, votes 에서 만든 번호 인덱스, 생존자 수, 득표 집계 (참가자나 역할이 바뀌면 다시 만든다)
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient PlayerTable table;
+
+    public void setPlayers(Map<Long, Player> players) {
+        this.players = players;
+        this.table = null;
+    }
+
+    public void setMap_players(Map<Integer, Long> map_players) {
+        this.map_players = map_players;
+        this.table = null;
+    }
+
+    public void setVotes(Map<Long, Integer> votes) {
+        this.votes = votes;
+        this.table = null;
+    }
+
+    private PlayerTable table() {
+        if (table == null) {
+            table = new PlayerTable(players, map_players);
+            table.resetVotes(votes.values());
+        }
+        return table;
+    }
+
     public Integer getPlayerNoByMemberId(Long memberId) {
-        return map_players.entrySet().stream()
-            .filter(entry -> entry.getValue().equals(memberId)) // memberId와 일치하는 값 찾기
-            .map(Map.Entry::getKey) // 해당 키(플레이어 번호) 가져오기
-            .findFirst()
-            .orElse(null); // 없으면 null 반환
+        return table().slotOf(memberId); // 없으면 null 반환
+    }
+
+    public Player getPlayerByNo(int playerNo) {
+        return table().playerAt(playerNo); // 없으면 null 반환
     }
 
     public Game(long roomId, GameOption setting) {
@@ -73,10 +111,16 @@ public class Game implements Serializable { // 필드정리
         this.healTarget = 0;
         this.killTarget = new HashMap<>();
         this.setting = setting; // <- POST CONSTRUCT
+        this.eventEpoch = UUID.randomUUID().toString();
+    }
+
+    public long nextEventSeq() {
+        return ++eventSeq;
     }
 
     public void roundInit() {
         this.votes.clear();
+        table().resetVotes(votes.values());
         this.final_vote = 0;
         this.healTarget = 0;
         this.killTarget.clear();
@@ -93,6 +137,7 @@ public class Game implements Serializable { // 필드정리
         }
         Player player = new Player(participant);
         players.put(participant.getMemberId(), player);
+        table = null;
     }
 
     public void startGame() {
@@ -119,6 +164,7 @@ public class Game implements Serializable { // 필드정리
             }
             rcnt++;
         }
+        table = null; // 역할이 바뀌었으므로 생존자 수를 다시 계산
         log.info("[Game{}] Role distribution is completed", gameId);
     }
 
@@ -141,39 +187,18 @@ public class Game implements Serializable { // 필드정리
     }
 
     public void vote(Long playerNo, Integer targetNo) {
-        votes.put(playerNo, targetNo);
+        Integer previous = votes.put(playerNo, targetNo);
+        table().changeVote(previous, targetNo);
     }
 
     public Integer voteResult() {
-        int vote_cnt = votes.size();
-        long live = players.values().stream()
-            .filter(player -> !player.isDead()) // 살아있는 플레이어 수 계산
-            .count();
-
-        // 투표하지 않은 플레이어의 투표를 -1로 처리
-        for (int i = 0; i < live - vote_cnt; i++) {
-            votes.put(0L, -1);
-        }
-
-        // 투표 결과 집계 (누가 몇 표 받았는지)
-        Map<Integer, Long> result = votes.values().stream()
-            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
-
-        // 가장 많이 득표한 플레이어 찾기
-        Optional<Long> maxVotes = result.values().stream().max(Long::compare);
-
-        if (maxVotes.isPresent()) {
-            // 최다 득표를 받은 모든 플레이어 찾기
-            List<Integer> topPlayers = result.entrySet().stream()
-                .filter(entry -> entry.getValue().equals(maxVotes.get()))
-                .map(Map.Entry::getKey)
-                .toList();
-
-            // 동점이면 -1 반환
-            return (topPlayers.size() > 1) ? -1 : topPlayers.get(0);
+        // 투표하지 않은 플레이어가 있으면 -1(기권) 한 표로 처리
+        if (table().aliveCount() > votes.size() && !votes.containsKey(0L)) {
+            vote(0L, -1);
         }
 
-        return -1; // 투표가 없으면 -1 반환
+        // 투표마다 갱신된 집계에서 읽는다 (최다 득표자가 한 명이면 그 번호, 동점이거나 투표가 없으면 -1)
+        return table().leader();
     }
 
 
@@ -182,9 +207,7 @@ public class Game implements Serializable { // 필드정리
     }
 
     public boolean finalvoteResult() {
-        long live = players.values().stream()
-            .filter(player -> !player.isDead())
-            .count();
+        int live = table().aliveCount();
 
         int target = voteResult();
         if (final_vote > (live / 2) && target != -1) {
@@ -194,8 +217,9 @@ public class Game implements Serializable { // 필드정리
         return false;
     }
 
-    private void Kill(Long targetNo) {
-        Player p = players.get(targetNo);
+    private void Kill(Integer targetNo) {
+        Player p = table().playerAt(targetNo);
+        table().onDeath(p);
         p.setDead(true);
         p.updateSubscriptionsOnDeath(gameId);
         log.info(targetNo + "플레이어 사망 처리");
@@ -214,7 +238,7 @@ public class Game implements Serializable { // 필드정리
 
         // 실제 킬 처리
         for (Integer target : finalDeathList) {
-            Kill(map_players.get(target));
+            Kill(target);
         }
         log.warn("Final Kill List: " + finalDeathList);
         isGameOver();
@@ -235,7 +259,7 @@ public class Game implements Serializable { // 필드정리
     }
 
     public Role findRole(Integer targetNo) {
-        Role find = players.get(map_players.get(targetNo)).getRole();
+        Role find = table().playerAt(targetNo).getRole();
         if (find == Role.ZOMBIE) {
             return Role.ZOMBIE;
         } else {
@@ -244,16 +268,10 @@ public class Game implements Serializable { // 필드정리
     }
 
     private void isGameOver() {
-        //각 역할별 생존자 수 계산
-        long citizen = players.values().stream()
-            .filter(player -> player.getRole() != Role.ZOMBIE && player.getRole() != Role.MUTANT && !player.isDead())
-            .count();
-        long zombie = players.values().stream()
-            .filter(player -> player.getRole() == Role.ZOMBIE && !player.isDead())
-            .count();
-        long mutant = players.values().stream()
-            .filter(player -> player.getRole() == Role.MUTANT && !player.isDead())
-            .count();
+        //각 역할별 생존자 수
+        int citizen = table().aliveCitizen();
+        int zombie = table().aliveZombie();
+        int mutant = table().aliveMutant();
 
         if (zombie == 0 && mutant == 0) {
             this.gameStatus = GameStatus.CITIZEN_WIN;
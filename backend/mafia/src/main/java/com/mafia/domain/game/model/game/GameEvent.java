@@ -0,0 +1,51 @@
+package com.mafia.domain.game.model.game;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게임 이벤트 스트림(game:{id}:events:{epoch})에 기록되는 게임 액션.
+ * <p>
+ * seq는 게임 안에서 단조 증가하며 스냅샷에 마지막으로 반영된 seq가 함께 저장된다. 복원 시 스냅샷 이후의 이벤트만
+ * {@link #applyTo(Game)}로 다시 적용한다.
+ */
+public record GameEvent(long seq, GameEventType type, String subject, String target) {
+
+    private static final String SEQ = "s";
+    private static final String TYPE = "t";
+    private static final String SUBJECT = "a";
+    private static final String TARGET = "b";
+
+    /**
+     * 이벤트를 게임에 다시 적용한다. (검증은 기록 시점에 끝났으므로 하지 않는다)
+     */
+    public void applyTo(Game game) {
+        switch (type) {
+            case VOTE -> game.vote(Long.valueOf(subject), Integer.valueOf(target));
+            case FINAL_VOTE -> game.finalVote();
+            case FINAL_VOTE_RESULT -> game.finalvoteResult();
+            case TARGET -> game.specifyTarget(Role.valueOf(subject), Integer.valueOf(target));
+            case HEAL -> game.heal(Integer.valueOf(target));
+            case PHASE -> { } // 전환 결과는 스냅샷에 포함된다
+        }
+        game.setEventSeq(Math.max(game.getEventSeq(), seq));
+    }
+
+    public Map<String, String> toFields() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(SEQ, String.valueOf(seq));
+        fields.put(TYPE, type.name());
+        if (subject != null) {
+            fields.put(SUBJECT, subject);
+        }
+        if (target != null) {
+            fields.put(TARGET, target);
+        }
+        return fields;
+    }
+
+    public static GameEvent fromFields(Map<String, String> fields) {
+        return new GameEvent(Long.parseLong(fields.get(SEQ)), GameEventType.valueOf(fields.get(TYPE)),
+            fields.get(SUBJECT), fields.get(TARGET));
+    }
+}
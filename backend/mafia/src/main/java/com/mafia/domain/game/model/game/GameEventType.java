@@ -0,0 +1,10 @@
+package com.mafia.domain.game.model.game;
+
+public enum GameEventType {
+    VOTE,              // 투표 (subject: 투표자 ID, target: 대상 번호)
+    FINAL_VOTE,        // 최종 찬성 투표 (subject: 투표자 ID)
+    FINAL_VOTE_RESULT, // 최종 투표 집계
+    TARGET,            // 좀비/돌연변이 타겟 지정 (subject: 직업, target: 대상 번호)
+    HEAL,              // 의사 치료 (target: 대상 번호)
+    PHASE              // 페이즈 전환 (subject: 새 페이즈) - 전환 직후 스냅샷이 저장된다
+}
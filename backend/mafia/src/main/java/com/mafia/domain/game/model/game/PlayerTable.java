@@ -0,0 +1,147 @@
+package com.mafia.domain.game.model.game;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 플레이어 번호로 인덱싱한 플레이어 테이블. {@link Game}의 players / map_players 에서 만들어지는 파생 인덱스이다.
+ * <p>
+ * 번호 -> 플레이어 배열, memberId -> 번호 인덱스, 직업별 생존자 수, 번호별 득표 수를 유지하여 조회와 집계를 맵 순회
+ * 없이 처리한다. 사망은 {@link #onDeath(Player)}, 투표는 {@link #changeVote(Integer, Integer)}로 반영하며, 역할이나
+ * 참가자가 바뀌면 Game이 테이블을 다시 만든다.
+ */
+final class PlayerTable {
+
+    private final Player[] playerBySlot; // index: 플레이어 번호 (0번은 사용하지 않음)
+    private final Map<Long, Integer> slotByMember;
+    private final int[] tally; // 번호별 득표 수
+    private int abstain; // 기권(-1, 범위 밖 번호 포함) 표 수
+    private int leader = -1; // 현재 최다 득표자 (동점이거나 기권이 많으면 -1)
+
+    private int aliveCitizen; // 좀비, 돌연변이를 제외한 생존자
+    private int aliveZombie;
+    private int aliveMutant;
+
+    PlayerTable(Map<Long, Player> players, Map<Integer, Long> mapPlayers) {
+        int maxSlot = 0;
+        for (Integer slot : mapPlayers.keySet()) {
+            maxSlot = Math.max(maxSlot, slot);
+        }
+        playerBySlot = new Player[maxSlot + 1];
+        slotByMember = new HashMap<>(mapPlayers.size() * 2);
+        tally = new int[maxSlot + 1];
+
+        mapPlayers.forEach((slot, memberId) -> {
+            if (slot <= 0 || memberId == null) {
+                return;
+            }
+            playerBySlot[slot] = players.get(memberId);
+            slotByMember.put(memberId, slot);
+        });
+
+        for (Player player : players.values()) {
+            if (!player.isDead()) {
+                adjustAlive(player.getRole(), 1);
+            }
+        }
+    }
+
+    Integer slotOf(Long memberId) {
+        return slotByMember.get(memberId);
+    }
+
+    Player playerAt(int slot) {
+        return slot > 0 && slot < playerBySlot.length ? playerBySlot[slot] : null;
+    }
+
+    int aliveCitizen() {
+        return aliveCitizen;
+    }
+
+    int aliveZombie() {
+        return aliveZombie;
+    }
+
+    int aliveMutant() {
+        return aliveMutant;
+    }
+
+    int aliveCount() {
+        return aliveCitizen + aliveZombie + aliveMutant;
+    }
+
+    /**
+     * 사망 처리 직전에 호출한다. (이미 사망한 플레이어는 무시)
+     */
+    void onDeath(Player player) {
+        if (!player.isDead()) {
+            adjustAlive(player.getRole(), -1);
+        }
+    }
+
+    /**
+     * 투표 변경을 집계에 반영한다. (새 투표면 previous가 null, 재투표면 이전 대상)
+     */
+    void changeVote(Integer previous, Integer target) {
+        if (previous != null) {
+            count(previous, -1);
+        }
+        count(target, 1);
+        updateLeader();
+    }
+
+    /**
+     * 투표 목록으로 집계를 다시 만든다. (복원, 라운드 초기화)
+     */
+    void resetVotes(Iterable<Integer> targets) {
+        Arrays.fill(tally, 0);
+        abstain = 0;
+        for (Integer target : targets) {
+            count(target, 1);
+        }
+        updateLeader();
+    }
+
+    /**
+     * 최다 득표자가 한 명이고 기권보다 많으면 그 번호, 아니면 -1.
+     */
+    int leader() {
+        return leader;
+    }
+
+    private void count(Integer target, int delta) {
+        if (target != null && target > 0 && target < tally.length) {
+            tally[target] += delta;
+        } else {
+            abstain += delta;
+        }
+    }
+
+    // 번호 수(최대 참가 인원)만큼만 순회하므로 투표마다 다시 계산한다
+    private void updateLeader() {
+        int top = -1;
+        int topCount = abstain;
+        boolean tie = false;
+        for (int slot = 1; slot < tally.length; slot++) {
+            if (tally[slot] > topCount) {
+                top = slot;
+                topCount = tally[slot];
+                tie = false;
+            } else if (tally[slot] == topCount && topCount > 0) {
+                tie = true;
+            }
+        }
+        leader = tie ? -1 : top;
+    }
+
+    private void adjustAlive(Role role, int delta) {
+        if (role == Role.ZOMBIE) {
+            aliveZombie += delta;
+        } else if (role == Role.MUTANT) {
+            aliveMutant += delta;
+        } else {
+            aliveCitizen += delta;
+        }
+    }
+}
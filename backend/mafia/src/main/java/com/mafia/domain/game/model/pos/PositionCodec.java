@@ -0,0 +1,100 @@
+package com.mafia.domain.game.model.pos;
+
+/**
+ * 위치 업데이트 바이너리 프레임 인코더/디코더.
+ * <p>
+ * 12바이트 고정 길이, big-endian:
+ * <pre>
+ * [0] 버전  [1] 플레이어 번호  [2] 캐릭터 코드  [3] 방향 코드
+ * [4-5] x  [6-7] y  (unsigned, 1/4 px 단위)
+ * [8-9] velocityX  [10-11] velocityY  (signed, 1/4 px/s 단위)
+ * </pre>
+ * 호출 측이 넘긴 배열과 객체에만 읽고 쓰며, 문자열은 상수 테이블의 값을 그대로 쓰므로 프레임당 할당이 없다.
+ */
+public final class PositionCodec {
+
+    public static final int FRAME_SIZE = 12;
+    public static final byte VERSION = 1;
+
+    private static final double SCALE = 4.0;
+    private static final int UNKNOWN = 0xFF;
+
+    // 코드 = 배열 인덱스 (프론트엔드 positionCodec.js 와 순서를 맞춘다)
+    private static final String[] CHARACTERS = {
+        "character1", "character2", "character3", "character4", "character5"
+    };
+    private static final String[] DIRECTIONS = {"down", "left", "right", "up"};
+
+    private PositionCodec() {
+    }
+
+    /**
+     * 길이, 버전, 플레이어 번호가 올바른 프레임인지 확인한다.
+     */
+    public static boolean isValid(byte[] frame) {
+        return frame != null && frame.length == FRAME_SIZE && frame[0] == VERSION
+            && (frame[1] & 0xFF) > 0;
+    }
+
+    public static int playerNo(byte[] frame, int offset) {
+        return frame[offset + 1] & 0xFF;
+    }
+
+    /**
+     * 프레임을 주어진 객체에 채운다.
+     */
+    public static void decode(byte[] frame, int offset, PlayerPosition into) {
+        into.setPlayerNo(frame[offset + 1] & 0xFF);
+        into.setCharacter(lookup(CHARACTERS, frame[offset + 2] & 0xFF));
+        into.setLastDirection(lookup(DIRECTIONS, frame[offset + 3] & 0xFF));
+        into.setX(readUnsigned(frame, offset + 4) / SCALE);
+        into.setY(readUnsigned(frame, offset + 6) / SCALE);
+        into.setVelocityX(readSigned(frame, offset + 8) / SCALE);
+        into.setVelocityY(readSigned(frame, offset + 10) / SCALE);
+    }
+
+    /**
+     * 위치를 out[offset, offset + FRAME_SIZE) 에 쓴다.
+     */
+    public static void encode(PlayerPosition position, byte[] out, int offset) {
+        out[offset] = VERSION;
+        out[offset + 1] = (byte) (position.getPlayerNo() == null ? 0 : position.getPlayerNo());
+        out[offset + 2] = (byte) indexOf(CHARACTERS, position.getCharacter());
+        out[offset + 3] = (byte) indexOf(DIRECTIONS, position.getLastDirection());
+        write(out, offset + 4, quantize(position.getX(), 0, 0xFFFF));
+        write(out, offset + 6, quantize(position.getY(), 0, 0xFFFF));
+        write(out, offset + 8, quantize(position.getVelocityX(), Short.MIN_VALUE, Short.MAX_VALUE));
+        write(out, offset + 10, quantize(position.getVelocityY(), Short.MIN_VALUE, Short.MAX_VALUE));
+    }
+
+    private static int quantize(double value, int min, int max) {
+        long scaled = Math.round(value * SCALE);
+        return (int) Math.max(min, Math.min(max, scaled));
+    }
+
+    private static void write(byte[] out, int offset, int value) {
+        out[offset] = (byte) (value >>> 8);
+        out[offset + 1] = (byte) value;
+    }
+
+    private static int readUnsigned(byte[] frame, int offset) {
+        return ((frame[offset] & 0xFF) << 8) | (frame[offset + 1] & 0xFF);
+    }
+
+    private static int readSigned(byte[] frame, int offset) {
+        return (short) readUnsigned(frame, offset);
+    }
+
+    private static String lookup(String[] table, int code) {
+        return code < table.length ? table[code] : null;
+    }
+
+    private static int indexOf(String[] table, String value) {
+        for (int i = 0; i < table.length; i++) {
+            if (table[i].equals(value)) {
+                return i;
+            }
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,121 @@
+package com.mafia.domain.game.repository;
+
+import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameEvent;
+import com.mafia.domain.game.model.game.GameEventType;
+import com.mafia.domain.game.repository.GameLeaseRepository.FencedBatch;
+import com.mafia.domain.game.service.GameLeaseManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게임 액션을 Redis Stream(game:{id}:events:{epoch})에 추가 전용으로 기록하는 리포지토리.
+ * <p>
+ * epoch는 게임마다 새로 발급되므로 같은 방에서 다시 시작한 게임이 이전 게임의 이벤트를 읽지 않는다. 이벤트는 메모리 큐에
+ * 쌓였다가 타이밍 휠의 슬롯마다 한 번의 파이프라인으로 XADD 된다. 이벤트가 바꾼 해시 필드({@link GameRepository#fieldWrites})도
+ * 같은 스크립트에서 HSET/HINCRBY 되고 event_seq가 그 이벤트의 seq로 올라간다. entry ID는 "{seq}-0" 이라서 해시의
+ * event_seq가 곧 해시에 반영된 스트림 위치이고, 복원 시 그 다음 ID부터 XRANGE 해서 다시 적용한다. (필드 쓰기를 건너뛴
+ * 이벤트만 남는다) 스트림은 MAXLEN 으로 길이를 제한한다.
+ * <p>
+ * 스트림은 기록할 때마다 TTL을 다시 잡는다. 진행 중인 게임은 페이즈마다 PHASE 이벤트를 남기므로 만료되지 않고, 노드 장애
+ * 등으로 deleteGame까지 가지 못한 게임의 스트림은 마지막 기록 후 TTL이 지나면 사라진다.
+ * <p>
+ * 스크립트는 기록할 때의 lease owner 값으로 fencing 되어, lease를 잃은 노드가 늦게 보낸 이벤트는 해시와 스트림에 남지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameEventRepository {
+
+    private static final long MAX_LENGTH = 1_000; // 페이즈 하나(스냅샷 사이)에 쌓이는 이벤트보다 충분히 크게
+    private static final long STREAM_TTL_MILLIS = 60 * 60 * 1000L; // 페이즈 길이보다 충분히 길게
+
+    private final StringRedisTemplate redisTemplate;
+    private final GameRepository gameRepository;
+    private final GameLeaseManager leaseManager;
+    private final GameLeaseRepository leaseRepository;
+    private final Queue<PendingEvent> pending = new ConcurrentLinkedQueue<>();
+
+    // epoch가 없는 게임은 이전 형식 스트림 (entry ID를 Redis가 발급)
+    private String getEventsKey(long gameId, String epoch) {
+        return epoch == null ? "game:" + gameId + ":events" : "game:" + gameId + ":events:" + epoch;
+    }
+
+    /**
+     * 게임에 반영한 액션을 기록한다. seq 순서가 적용 순서와 같고 필드 쓰기가 반영 직후 값이 되도록 호출 측에서 game
+     * 모니터를 잡고 호출한다.
+     * (이 노드가 lease를 가지지 않은 게임이면 기록하지 않는다)
+     */
+    public void append(Game game, GameEventType type, Object subject, Object target) {
+        long gameId = game.getGameId();
+        String owner = leaseManager.ownerOf(gameId);
+        if (owner == null) {
+            return;
+        }
+        GameEvent event = new GameEvent(game.nextEventSeq(), type,
+            subject == null ? null : String.valueOf(subject),
+            target == null ? null : String.valueOf(target));
+        String epoch = game.getEventEpoch();
+        pending.add(new PendingEvent(gameId, owner, getEventsKey(gameId, epoch),
+            epoch == null ? "*" : event.seq() + "-0", event.seq(), gameRepository.fieldWrites(game, event),
+            event.toFields()));
+    }
+
+    /**
+     * 쌓인 이벤트를 한 번의 파이프라인으로 기록한다. (필드 쓰기 + XADD)
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingEvent> events = new ArrayList<>();
+        PendingEvent event;
+        while ((event = pending.poll()) != null) {
+            events.add(event);
+        }
+
+        FencedBatch batch = leaseRepository.batch();
+        for (PendingEvent queued : events) {
+            batch.append(queued.gameId(), queued.owner(), queued.streamKey(),
+                gameRepository.getGamekey(queued.gameId()), MAX_LENGTH, STREAM_TTL_MILLIS, queued.entryId(),
+                queued.seq(), queued.writes(), queued.fields());
+        }
+        leaseRepository.execute(batch);
+    }
+
+    /**
+     * 스냅샷(seq) 이후에 기록된 이벤트를 seq 순으로 조회한다.
+     */
+    public List<GameEvent> findAfter(long gameId, String epoch, long seq) {
+        Range<String> range = epoch == null ? Range.unbounded()
+            : Range.rightUnbounded(Range.Bound.inclusive((seq + 1) + "-0"));
+        List<MapRecord<String, String, String>> records =
+            redisTemplate.<String, String>opsForStream().range(getEventsKey(gameId, epoch), range);
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+            .map(event -> GameEvent.fromFields(event.getValue()))
+            .filter(event -> epoch != null || event.seq() > seq) // 이전 형식은 ID가 seq와 무관하다
+            .toList();
+    }
+
+    /**
+     * 게임 스트림 삭제 - 게임 시작(이전 형식 스트림 정리)과 종료 시 호출
+     */
+    public void delete(long gameId, String epoch) {
+        redisTemplate.delete(getEventsKey(gameId, epoch));
+    }
+
+    private record PendingEvent(long gameId, String owner, String streamKey, String entryId, long seq,
+        List<GameFieldWrite> writes, Map<String, String> fields) {
+
+    }
+}
@@ -0,0 +1,17 @@
+package com.mafia.domain.game.repository;
+
+/**
+ * 게임 이벤트 하나가 바꾼 해시 필드 하나 - 이벤트 XADD와 같은 스크립트에서 실행된다.
+ *
+ * @param command HSET 또는 HINCRBY
+ */
+public record GameFieldWrite(String command, String key, String field, String value) {
+
+    public static GameFieldWrite set(String key, String field, Object value) {
+        return new GameFieldWrite("HSET", key, field, String.valueOf(value));
+    }
+
+    public static GameFieldWrite increment(String key, String field, long delta) {
+        return new GameFieldWrite("HINCRBY", key, field, String.valueOf(delta));
+    }
+}
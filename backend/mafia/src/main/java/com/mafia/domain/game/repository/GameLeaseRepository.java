@@ -0,0 +1,372 @@
+package com.mafia.domain.game.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게임 소유권(lease)과 노드 heartbeat를 관리하는 리포지토리.
+ * <p>
+ * game:{id}:owner 에 "{nodeId}:{token}"을 TTL과 함께 저장하고, token은 game:{id}:fence 카운터로 발급하는 단조 증가
+ * fencing token이다. 살아있는 노드는 game:nodes ZSET에 마지막 heartbeat 시각으로 기록된다.
+ * <p>
+ * 게임 키에 쓰는 명령은 fenced* 스크립트로 감싸 owner 값이 기대한 값(노드 + token)일 때만 실행한다. lease가 넘어간 뒤
+ * 늦게 도착한 이전 소유 노드의 쓰기는 Redis에서 버려진다. fenced 명령은 {@link FencedBatch}에 모아 EVALSHA 파이프라인으로
+ * 보낸다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class GameLeaseRepository {
+
+    private static final String NODES_KEY = "game:nodes";
+
+    // KEYS[1]: owner, KEYS[2]: fence / ARGV[1]: nodeId, ARGV[2]: lease TTL(ms)
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return -1
+        end
+        local token = redis.call('INCR', KEYS[2])
+        redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2])
+        return token
+        """, Long.class);
+
+    // KEYS[1]: nodes, KEYS[2..]: owner / ARGV[1]: nodeId, ARGV[2]: now, ARGV[3]: lease TTL(ms), ARGV[4..]: 기대하는 owner 값
+    private static final RedisScript<List> RENEW = new DefaultRedisScript<>("""
+        redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+        local lost = {}
+        for i = 2, #KEYS do
+            if redis.call('GET', KEYS[i]) == ARGV[i + 2] then
+                redis.call('PEXPIRE', KEYS[i], ARGV[3])
+            else
+                table.insert(lost, i - 2)
+            end
+        end
+        return lost
+        """, List.class);
+
+    // KEYS[1]: owner / ARGV[1]: 기대하는 owner 값
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    // KEYS[1]: owner, KEYS[2]: 대상 key / ARGV[1]: 기대하는 owner 값, ARGV[2]: 값, ARGV[3]: TTL(ms, 0이면 없음)
+    private static final FencedScript FENCED_SET = script("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        if tonumber(ARGV[3]) > 0 then
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+        else
+            redis.call('SET', KEYS[2], ARGV[2])
+        end
+        return 1
+        """);
+
+    // KEYS[1]: owner / ARGV[1]: 기대하는 owner 값, ARGV[2]: 채널, ARGV[3]: 메시지
+    private static final FencedScript FENCED_PUBLISH = script("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        return redis.call('PUBLISH', ARGV[2], ARGV[3])
+        """);
+
+    // KEYS[1]: owner, KEYS[2]: stream, KEYS[3]: meta 해시, KEYS[4..]: 필드 쓰기 대상 해시
+    // ARGV[1]: 기대하는 owner 값, ARGV[2]: 최대 길이, ARGV[3]: entry ID, ARGV[4]: seq, ARGV[5]: 필드 쓰기 수(-1이면 없음),
+    // ARGV[6]: 스트림 TTL(ms), ARGV[7..]: (명령, field, value) * 필드 쓰기 수, 이후 스트림 field, value, ...
+    // 필드 쓰기는 해시의 event_seq가 바로 앞 seq일 때만 적용한다. 스냅샷보다 늦게 도착했거나 앞 이벤트가 빠졌으면 해시를
+    // 건드리지 않고, 복원 시 스트림에서 다시 적용된다.
+    private static final FencedScript FENCED_APPEND = script("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return false
+        end
+        local writes = tonumber(ARGV[5])
+        if writes >= 0 and tonumber(redis.call('HGET', KEYS[3], 'event_seq') or '-1') + 1 == tonumber(ARGV[4]) then
+            for i = 1, writes do
+                local at = 4 + i * 3
+                redis.call(ARGV[at], KEYS[3 + i], ARGV[at + 1], ARGV[at + 2])
+            end
+            redis.call('HSET', KEYS[3], 'event_seq', ARGV[4])
+        end
+        local id = redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[2], ARGV[3], unpack(ARGV, 7 + math.max(writes, 0) * 3))
+        redis.call('PEXPIRE', KEYS[2], ARGV[6])
+        return id
+        """);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public static String ownerKey(long gameId) {
+        return "game:" + gameId + ":owner";
+    }
+
+    private String getOwnerKey(long gameId) {
+        return ownerKey(gameId);
+    }
+
+    private String getFenceKey(long gameId) {
+        return "game:" + gameId + ":fence";
+    }
+
+    public static String ownerValue(String nodeId, long token) {
+        return nodeId + ":" + token;
+    }
+
+    /**
+     * 소유자가 없으면 lease를 잡고 새 fencing token을 반환한다.
+     *
+     * @return fencing token, 다른 노드가 소유 중이면 -1
+     */
+    public long acquire(long gameId, String nodeId, long ttlMillis) {
+        Long token = redisTemplate.execute(ACQUIRE, List.of(getOwnerKey(gameId), getFenceKey(gameId)),
+            nodeId, String.valueOf(ttlMillis));
+        return token == null ? -1 : token;
+    }
+
+    /**
+     * 노드 heartbeat를 갱신하고, 보유 중인 lease의 TTL을 한 번의 스크립트로 연장한다.
+     *
+     * @param gameIds 보유 중인 게임 ID
+     * @param owners  각 게임의 기대 owner 값 ({@link #ownerValue})
+     * @return 더 이상 소유하지 않는 게임의 인덱스 (gameIds 기준)
+     */
+    public List<Integer> renew(String nodeId, long now, long ttlMillis, List<Long> gameIds,
+        List<String> owners) {
+        List<String> keys = new ArrayList<>(gameIds.size() + 1);
+        keys.add(NODES_KEY);
+        gameIds.forEach(gameId -> keys.add(getOwnerKey(gameId)));
+
+        List<String> args = new ArrayList<>(owners.size() + 3);
+        args.add(nodeId);
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(ttlMillis));
+        args.addAll(owners);
+
+        List<?> lost = redisTemplate.execute(RENEW, keys, args.toArray());
+        List<Integer> result = new ArrayList<>();
+        if (lost != null) {
+            lost.forEach(index -> result.add(((Number) index).intValue()));
+        }
+        return result;
+    }
+
+    /**
+     * lease가 아직 같은 owner 값(노드 + fencing token)인지 확인한다.
+     */
+    public boolean isHeldBy(long gameId, String owner) {
+        return owner.equals(redisTemplate.opsForValue().get(getOwnerKey(gameId)));
+    }
+
+    /**
+     * 게임 lease를 가진 노드 ID
+     *
+     * @return 소유자가 없으면(만료되어 이어받는 중) null
+     */
+    public String findOwnerNode(long gameId) {
+        String owner = redisTemplate.opsForValue().get(getOwnerKey(gameId));
+        if (owner == null) {
+            return null;
+        }
+        int separator = owner.lastIndexOf(':');
+        return separator < 0 ? owner : owner.substring(0, separator);
+    }
+
+    /**
+     * 자신이 소유한 lease만 삭제한다.
+     */
+    public void release(long gameId, String owner) {
+        redisTemplate.execute(RELEASE, List.of(getOwnerKey(gameId)), owner);
+    }
+
+    /**
+     * 최근 heartbeat가 기록된 노드 목록 (만료된 노드는 함께 정리한다)
+     */
+    public Set<String> getLiveNodes(long now, long nodeTtlMillis) {
+        long expiredBefore = now - nodeTtlMillis;
+        redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, expiredBefore);
+        Set<String> nodes = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, expiredBefore, Double.MAX_VALUE);
+        return nodes == null ? Set.of() : nodes;
+    }
+
+    public void removeNode(String nodeId) {
+        redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+    }
+
+    /**
+     * 여러 게임의 fenced 명령을 모아 한 번의 파이프라인으로 보낼 묶음
+     */
+    public FencedBatch batch() {
+        return new FencedBatch();
+    }
+
+    /**
+     * 묶음의 명령을 한 번의 파이프라인으로 보낸다.
+     * <p>
+     * 스크립트는 본문 대신 SHA로 보내고(EVALSHA), Redis 재시작이나 SCRIPT FLUSH로 캐시에 없어 NOSCRIPT로 실패한 명령만
+     * EVAL로 다시 보낸다. EVAL이 스크립트를 캐시에 올리므로 이후에는 다시 SHA만 전송된다. NOSCRIPT로 실패한 명령은
+     * 실행되지 않았으므로 다시 보내도 중복되지 않는다.
+     *
+     * @throws RedisPipelineException NOSCRIPT 외의 이유로 실패한 명령이 있는 경우
+     */
+    public void execute(FencedBatch batch) {
+        List<FencedCommand> commands = batch.commands;
+        if (commands.isEmpty()) {
+            return;
+        }
+        try {
+            pipeline(commands, true);
+        } catch (RedisPipelineException e) {
+            List<Object> results = e.getResults();
+            List<FencedCommand> missing = new ArrayList<>();
+            int failures = 0;
+            for (int i = 0; i < results.size() && i < commands.size(); i++) {
+                if (results.get(i) instanceof Throwable failure) {
+                    failures++;
+                    if (isNoScript(failure)) {
+                        missing.add(commands.get(i));
+                    }
+                }
+            }
+            if (missing.isEmpty()) {
+                throw e;
+            }
+            log.debug("[GameLeaseRepository] 스크립트 캐시에 없는 명령 {}개를 EVAL로 다시 전송", missing.size());
+            pipeline(missing, false);
+            if (failures > missing.size()) {
+                throw e;
+            }
+        }
+    }
+
+    private void pipeline(List<FencedCommand> commands, boolean bySha) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (FencedCommand command : commands) {
+                if (bySha) {
+                    connection.scriptingCommands().evalSha(command.script().sha1(), command.returnType(),
+                        command.numKeys(), command.keysAndArgs());
+                } else {
+                    connection.scriptingCommands().eval(command.script().source(), command.returnType(),
+                        command.numKeys(), command.keysAndArgs());
+                }
+            }
+            return null;
+        });
+    }
+
+    private static boolean isNoScript(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static FencedScript script(String source) {
+        return new FencedScript(source.getBytes(StandardCharsets.UTF_8), new DefaultRedisScript<>(source).getSha1());
+    }
+
+    private static byte[][] toBytes(List<String> keysAndArgs) {
+        byte[][] bytes = new byte[keysAndArgs.size()][];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = keysAndArgs.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    /**
+     * owner 값으로 fencing 되는 명령 묶음 - 쌓은 순서대로 전송된다. ({@link #execute})
+     */
+    public final class FencedBatch {
+
+        private final List<FencedCommand> commands = new ArrayList<>();
+
+        private FencedBatch() {
+        }
+
+        /**
+         * lease가 owner일 때만 SET
+         *
+         * @param ttlMillis 0이면 만료 없이 저장
+         */
+        public void set(long gameId, String owner, String key, String value, long ttlMillis) {
+            add(FENCED_SET, ReturnType.INTEGER, List.of(getOwnerKey(gameId), key),
+                List.of(owner, value, String.valueOf(ttlMillis)));
+        }
+
+        /**
+         * lease가 owner일 때만 PUBLISH
+         */
+        public void publish(long gameId, String owner, String channel, String message) {
+            add(FENCED_PUBLISH, ReturnType.INTEGER, List.of(getOwnerKey(gameId)), List.of(owner, channel, message));
+        }
+
+        /**
+         * lease가 owner일 때만 이벤트의 필드 쓰기(HSET/HINCRBY)와 event_seq 갱신, XADD(MAXLEN ~ maxLen 으로 길이 제한)를
+         * 한 번에 실행하고 스트림 TTL을 ttlMillis로 다시 잡는다.
+         *
+         * @param entryId 스트림 entry ID ("*" 이면 Redis가 발급)
+         * @param writes  이벤트가 바꾼 필드, null이면 해시와 event_seq를 건드리지 않는다 (페이즈 전환)
+         */
+        public void append(long gameId, String owner, String streamKey, String metaKey, long maxLen, long ttlMillis,
+            String entryId, long seq, List<GameFieldWrite> writes, Map<String, String> fields) {
+            int writeCount = writes == null ? 0 : writes.size();
+            List<String> keys = new ArrayList<>(writeCount + 3);
+            keys.add(getOwnerKey(gameId));
+            keys.add(streamKey);
+            keys.add(metaKey);
+
+            List<String> args = new ArrayList<>(writeCount * 3 + fields.size() * 2 + 6);
+            args.add(owner);
+            args.add(String.valueOf(maxLen));
+            args.add(entryId);
+            args.add(String.valueOf(seq));
+            args.add(String.valueOf(writes == null ? -1 : writeCount));
+            args.add(String.valueOf(ttlMillis));
+            for (int i = 0; i < writeCount; i++) {
+                GameFieldWrite write = writes.get(i);
+                keys.add(write.key());
+                args.add(write.command());
+                args.add(write.field());
+                args.add(write.value());
+            }
+            fields.forEach((field, value) -> {
+                args.add(field);
+                args.add(value);
+            });
+            add(FENCED_APPEND, ReturnType.VALUE, keys, args);
+        }
+
+        public boolean isEmpty() {
+            return commands.isEmpty();
+        }
+
+        private void add(FencedScript script, ReturnType returnType, List<String> keys, List<String> args) {
+            List<String> keysAndArgs = new ArrayList<>(keys.size() + args.size());
+            keysAndArgs.addAll(keys);
+            keysAndArgs.addAll(args);
+            commands.add(new FencedCommand(script, returnType, keys.size(), toBytes(keysAndArgs)));
+        }
+    }
+
+    private record FencedScript(byte[] source, String sha1) {
+
+    }
+
+    private record FencedCommand(FencedScript script, ReturnType returnType, int numKeys, byte[][] keysAndArgs) {
+
+    }
+}
@@ -0,0 +1,103 @@
+package com.mafia.domain.game.repository;
+
+import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 노드가 진행 중인 게임을 메모리에 보관하는 레지스트리.
+ * <p>
+ * 게임 액션(투표, 타겟 지정 등)은 메모리의 {@link Game}을 변경하고 이벤트 스트림({@link GameEventRepository})에
+ * 추가한다. 이벤트는 슬롯마다 바뀐 해시 필드만 쓰는 명령과 함께 기록되고, 페이즈 전환 시점에는 전체 필드를 다시 쓴다.
+ * 해시에 반영되지 못한 이벤트(event_seq 이후)는 복원 시 스트림에서 다시 적용한다. 메모리에는 이 노드가 lease를 가진 게임만 두며, lease를 얻은 노드가 Redis에서 복원한다(서버 재시작,
+ * 노드 장애 조치). 다른 노드의 게임은 {@link #read(long)}로 읽기만 한다.
+ * <p>
+ * {@link Game}은 스레드 안전하지 않으므로 변경과 직렬화는 항상 게임 객체를 모니터로 동기화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameRegistry {
+
+    private final GameRepository gameRepository;
+    private final GameEventRepository gameEventRepository;
+
+    private final Map<Long, Game> liveGames = new ConcurrentHashMap<>();
+
+    /**
+     * 이 노드가 진행 중인(lease를 가진) 게임 조회 - 변경은 이 게임에만 한다.
+     */
+    public Optional<Game> find(long gameId) {
+        return Optional.ofNullable(liveGames.get(gameId));
+    }
+
+    /**
+     * 읽기 전용 조회 - 이 노드가 진행 중이 아니면 Redis의 해시에 이후 이벤트를 적용한 복사본을 돌려주고 등록하지 않는다.
+     * 복사본은 변경해도 저장되지 않는다.
+     */
+    public Optional<Game> read(long gameId) {
+        Game game = liveGames.get(gameId);
+        return game != null ? Optional.of(game) : load(gameId);
+    }
+
+    /**
+     * lease를 얻은 노드가 Redis의 마지막 상태로 게임을 복원하여 등록한다. 메모리에 남아 있던 이전 상태는 버린다.
+     */
+    public Optional<Game> restore(long gameId) {
+        return load(gameId).map(game -> {
+            liveGames.put(gameId, game);
+            return game;
+        });
+    }
+
+    private Optional<Game> load(long gameId) {
+        return gameRepository.findById(gameId)
+            .map(loaded -> {
+                long snapshotSeq = loaded.getEventSeq();
+                List<GameEvent> tail = gameEventRepository.findAfter(gameId, loaded.getEventEpoch(), snapshotSeq);
+                tail.forEach(event -> event.applyTo(loaded));
+                log.debug("[GameRegistry] 게임 {} Redis에서 읽음 (스냅샷 seq: {}, 이후 이벤트 {}개)",
+                    gameId, snapshotSeq, tail.size());
+                return loaded;
+            });
+    }
+
+    /**
+     * 새 게임 등록 - 시작 시점의 상태는 즉시 Redis에 저장한다. (lease를 잡기 전이므로 fencing 없이 저장)
+     */
+    public void register(Game game) {
+        liveGames.put(game.getGameId(), game);
+        gameRepository.save(game, null);
+    }
+
+    /**
+     * 게임의 전체 필드를 즉시 Redis에 저장한다. (페이즈 전환 등)
+     *
+     * @param owner 이 노드의 lease owner 값 - lease가 이 값일 때만 저장된다
+     * @return 저장했으면 true, 메모리에 없거나 lease가 넘어갔으면 false
+     */
+    public boolean flush(long gameId, String owner) {
+        Game game = liveGames.get(gameId);
+        return game != null && gameRepository.save(game, owner);
+    }
+
+    /**
+     * 게임 종료 시 메모리에서 제거 (Redis 삭제는 호출 측에서 처리)
+     */
+    public void remove(long gameId) {
+        liveGames.remove(gameId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("[GameRegistry] 애플리케이션 종료 감지, 진행 중인 게임 {}개의 이벤트 저장", liveGames.size());
+        gameEventRepository.flush(); // 아직 XADD 되지 않은 이벤트
+    }
+}
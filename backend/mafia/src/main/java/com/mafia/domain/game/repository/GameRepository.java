@@ -1,41 +1,285 @@
 package com.mafia.domain.game.repository;
 
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameEvent;
+import com.mafia.domain.game.model.game.GameOption;
+import com.mafia.domain.game.model.game.GamePhase;
+import com.mafia.domain.game.model.game.GameStatus;
+import com.mafia.domain.game.model.game.Player;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 게임 상태를 Redis 해시로 나누어 저장하는 리포지토리.
+ * <p>
+ * game:{id}:meta, game:{id}:players, game:{id}:votes, game:{id}:kill 로 나누어 저장한다. 저장 시점의 event_seq를
+ * 함께 기록하여 이벤트 스트림 복원의 기준 스냅샷으로 쓴다. 한 번의 저장은 MULTI로 묶어 해시를 지우고 다시 쓰는 사이의
+ * 상태가 읽히지 않게 한다.
+ * <p>
+ * 스냅샷 사이의 액션(투표, 최종 투표, 타겟, 치료)은 {@link #fieldWrites}가 만든 필드 단위 HSET/HINCRBY로 이벤트와 함께
+ * 쓰이고, 그때마다 event_seq도 그 이벤트의 seq로 올라간다. 그래서 해시는 항상 event_seq까지의 이벤트가 반영된 상태이다.
+ * <p>
+ * 이전 버전은 game:{id}에 Game 전체를 문자열(JSON)로 저장했다. 메타 해시가 없으면 이 키를 읽어 복원하고, 다음 저장
+ * 때 새 형식으로 옮기며 지운다. (순차 배포 중 진행 중이던 게임)
+ */
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class GameRepository {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<String, Object> legacyTemplate; // 이전 형식(game:{id} 문자열) 읽기용
+    private final ObjectMapper objectMapper;
 
+    private static final String STATUS = "status";
+    private static final String PHASE = "phase";
+    private static final String FINAL_VOTE = "final_vote";
+    private static final String HEAL_TARGET = "heal_target";
+    private static final String SETTING = "setting";
+    private static final String MAP_PLAYERS = "map_players";
+    private static final String EVENT_SEQ = "event_seq";
+    private static final String EVENT_EPOCH = "event_epoch";
+    private static final int MAX_SAVE_ATTEMPTS = 3;
 
-    private String getGamekey(long roomId) {
+    public String getGamekey(long roomId) {
+        return "game:" + roomId + ":meta";
+    }
+
+    private String getLegacyGameKey(long roomId) {
         return "game:" + roomId;
     }
 
-    // 게임 저장
-    public void save(Game game) {
-        redisTemplate.opsForValue().set(getGamekey(game.getGameId()), game);
+    private String getPlayersKey(long roomId) {
+        return "game:" + roomId + ":players";
+    }
+
+    private String getVotesKey(long roomId) {
+        return "game:" + roomId + ":votes";
+    }
+
+    private String getKillTargetKey(long roomId) {
+        return "game:" + roomId + ":kill";
+    }
+
+    /**
+     * 게임 저장 - 전체 필드를 한 번의 트랜잭션(MULTI)으로 다시 쓴다. (직렬화 중 변경을 막기 위해 게임 단위로 동기화)
+     * <p>
+     * owner가 있으면 lease 키를 WATCH 하고 값을 확인한 뒤 같은 MULTI에서 쓰므로, 그 사이 lease가 넘어가면 저장되지 않는다.
+     * lease 갱신(PEXPIRE)으로 EXEC가 취소된 경우에는 owner를 다시 확인하고 재시도한다.
+     *
+     * @param owner 기대하는 lease owner 값, 게임 생성 직후처럼 아직 lease가 없으면 null
+     * @return 저장했으면 true, lease가 다른 값이면 false
+     */
+    public boolean save(Game game, String owner) {
+        List<HashWrite> writes = new ArrayList<>();
+        synchronized (game) {
+            collectWrites(game, writes);
+        }
+        String ownerKey = GameLeaseRepository.ownerKey(game.getGameId());
+
+        for (int attempt = 1; attempt <= MAX_SAVE_ATTEMPTS; attempt++) {
+            Boolean saved = write(writes, owner, ownerKey);
+            if (saved != null) {
+                return saved;
+            }
+            log.debug("[GameRepository] 게임 {} 저장 중 lease 키 변경으로 재시도 (attempt {})", game.getGameId(), attempt);
+        }
+        return false;
+    }
+
+    // 저장했으면 true, owner가 다르면 false, WATCH 중 lease 키가 바뀌어 EXEC가 취소되면 null
+    private Boolean write(List<HashWrite> writes, String owner, String ownerKey) {
+        return redisTemplate.execute(new SessionCallback<Boolean>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Boolean execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                if (owner != null) {
+                    ops.watch(ownerKey);
+                    if (!owner.equals(ops.opsForValue().get(ownerKey))) {
+                        ops.unwatch();
+                        return false;
+                    }
+                }
+                ops.multi();
+                for (HashWrite write : writes) {
+                    if (write.replace()) {
+                        ops.delete(write.key());
+                    }
+                    if (!write.fields().isEmpty()) {
+                        ops.opsForHash().putAll(write.key(), write.fields());
+                    }
+                }
+                List<Object> result = ops.exec();
+                return result != null && !result.isEmpty() ? Boolean.TRUE : null;
+            }
+        });
+    }
+
+    private void collectWrites(Game game, List<HashWrite> writes) {
+        long gameId = game.getGameId();
+
+        Map<String, String> meta = new HashMap<>();
+        meta.put(STATUS, String.valueOf(game.getGameStatus()));
+        meta.put(PHASE, String.valueOf(game.getPhase()));
+        meta.put(FINAL_VOTE, String.valueOf(game.getFinal_vote()));
+        meta.put(HEAL_TARGET, String.valueOf(game.getHealTarget()));
+        meta.put(SETTING, toJson(game.getSetting()));
+        meta.put(MAP_PLAYERS, toJson(game.getMap_players()));
+        meta.put(EVENT_SEQ, String.valueOf(game.getEventSeq()));
+        if (game.getEventEpoch() != null) {
+            meta.put(EVENT_EPOCH, game.getEventEpoch());
+        }
+        writes.add(new HashWrite(getGamekey(gameId), false, meta));
+        writes.add(new HashWrite(getLegacyGameKey(gameId), true, Map.of())); // 이전 형식 키 정리
+
+        Map<String, String> players = new HashMap<>();
+        game.getPlayers().forEach((memberId, player) ->
+            players.put(String.valueOf(memberId), toJson(player)));
+        writes.add(new HashWrite(getPlayersKey(gameId), false, players));
+
+        writes.add(new HashWrite(getVotesKey(gameId), true, toStringMap(game.getVotes())));
+        writes.add(new HashWrite(getKillTargetKey(gameId), true, toStringMap(game.getKillTarget())));
+    }
+
+    /**
+     * 이벤트가 바꾼 필드만 쓰는 명령 - 이벤트를 게임에 반영한 직후 game 모니터 안에서 호출한다.
+     * <p>
+     * 페이즈 전환은 바뀌는 필드가 많아 전환 직후의 스냅샷(save)이 쓰므로 null을 돌려준다. (필드 쓰기 없음, event_seq도
+     * 올리지 않는다)
+     */
+    public List<GameFieldWrite> fieldWrites(Game game, GameEvent event) {
+        long gameId = game.getGameId();
+        List<GameFieldWrite> writes = new ArrayList<>();
+        switch (event.type()) {
+            case VOTE -> writes.add(GameFieldWrite.set(getVotesKey(gameId), event.subject(), event.target()));
+            case FINAL_VOTE -> writes.add(GameFieldWrite.increment(getGamekey(gameId), FINAL_VOTE, 1));
+            case FINAL_VOTE_RESULT -> { // 기권 표(0번)와 처형 대상
+                Integer abstention = game.getVotes().get(0L);
+                if (abstention != null) {
+                    writes.add(GameFieldWrite.set(getVotesKey(gameId), "0", abstention));
+                }
+                Integer voteKill = game.getKillTarget().get("VOTE");
+                if (voteKill != null) {
+                    writes.add(GameFieldWrite.set(getKillTargetKey(gameId), "VOTE", voteKill));
+                }
+            }
+            case TARGET -> writes.add(GameFieldWrite.set(getKillTargetKey(gameId), event.subject(), event.target()));
+            case HEAL -> { // 남은 백신 수는 설정(JSON)에 들어 있다
+                writes.add(GameFieldWrite.set(getGamekey(gameId), HEAL_TARGET, event.target()));
+                writes.add(GameFieldWrite.set(getGamekey(gameId), SETTING, toJson(game.getSetting())));
+            }
+            case PHASE -> {
+                return null;
+            }
+        }
+        return writes;
     }
 
     // 게임 조회
     public Optional<Game> findById(long roomId) {
-        Object value = redisTemplate.opsForValue().get(getGamekey(roomId));
-        if (value instanceof Game game) {
-            return Optional.of(game);
+        Map<Object, Object> meta = redisTemplate.opsForHash().entries(getGamekey(roomId));
+        if (meta.isEmpty()) {
+            return findLegacy(roomId);
+        }
+
+        Game game = new Game();
+        game.setGameId(roomId);
+        game.setGameStatus(parseStatus(meta.get(STATUS)));
+        game.setPhase(parsePhase(meta.get(PHASE)));
+        game.setFinal_vote(Integer.parseInt((String) meta.getOrDefault(FINAL_VOTE, "0")));
+        game.setHealTarget(Integer.valueOf((String) meta.getOrDefault(HEAL_TARGET, "0")));
+        game.setSetting(fromJson((String) meta.get(SETTING), new TypeReference<GameOption>() {}));
+        game.setMap_players(
+            fromJson((String) meta.get(MAP_PLAYERS), new TypeReference<HashMap<Integer, Long>>() {}));
+        game.setEventSeq(Long.parseLong((String) meta.getOrDefault(EVENT_SEQ, "0")));
+        game.setEventEpoch((String) meta.get(EVENT_EPOCH));
+
+        Map<Long, Player> players = new HashMap<>();
+        redisTemplate.opsForHash().entries(getPlayersKey(roomId)).forEach((memberId, json) ->
+            players.put(Long.valueOf((String) memberId),
+                fromJson((String) json, new TypeReference<Player>() {})));
+        game.setPlayers(players);
+
+        Map<Long, Integer> votes = new HashMap<>();
+        redisTemplate.opsForHash().entries(getVotesKey(roomId)).forEach((voterId, target) ->
+            votes.put(Long.valueOf((String) voterId), Integer.valueOf((String) target)));
+        game.setVotes(votes);
+
+        Map<String, Integer> killTarget = new HashMap<>();
+        redisTemplate.opsForHash().entries(getKillTargetKey(roomId)).forEach((role, target) ->
+            killTarget.put((String) role, Integer.valueOf((String) target)));
+        game.setKillTarget(killTarget);
+
+        return Optional.of(game);
+    }
+
+    // 이전 형식(game:{id} 문자열)으로 저장된 게임 조회
+    private Optional<Game> findLegacy(long roomId) {
+        try {
+            Object value = legacyTemplate.opsForValue().get(getLegacyGameKey(roomId));
+            return value instanceof Game game ? Optional.of(game) : Optional.empty();
+        } catch (SerializationException e) {
+            log.error("[GameRepository] 게임 {} 이전 형식 변환 실패: {}", roomId, e.getMessage());
+            return Optional.empty();
         }
-        return Optional.empty();
     }
 
     // 게임 삭제
     public void delete(long roomId) {
-        redisTemplate.delete(getGamekey(roomId));
+        redisTemplate.delete(List.of(getGamekey(roomId), getPlayersKey(roomId),
+            getVotesKey(roomId), getKillTargetKey(roomId), getLegacyGameKey(roomId)));
     }
 
+    private static GameStatus parseStatus(Object value) {
+        return value == null || "null".equals(value) ? null : GameStatus.valueOf((String) value);
+    }
+
+    private static GamePhase parsePhase(Object value) {
+        return value == null || "null".equals(value) ? null : GamePhase.valueOf((String) value);
+    }
 
-}
\ No newline at end of file
+    private static Map<String, String> toStringMap(Map<?, ?> source) {
+        Map<String, String> result = new HashMap<>();
+        source.forEach((key, value) -> result.put(String.valueOf(key), String.valueOf(value)));
+        return result;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to convert game field to JSON", e);
+        }
+    }
+
+    private <T> T fromJson(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to parse game field JSON", e);
+        }
+    }
+
+    /**
+     * 파이프라인에서 실행할 해시 쓰기 (replace면 기존 해시를 지우고 다시 쓴다)
+     */
+    private record HashWrite(String key, boolean replace, Map<String, String> fields) {
+
+    }
+}
@@ -1,10 +1,12 @@
 package com.mafia.domain.game.repository;
 
 import com.mafia.domain.game.model.game.GamePhase;
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,11 +16,11 @@ public class GameSeqRepository {
     private final RedisTemplate<String, Object> redisTemplate;
     private static final String ACTIVE_GAMES_KEY = "activegames";
 
-    private String getPhaseKey(long roomId) {
+    public String getPhaseKey(long roomId) {
         return "game:" + roomId + ":phase";
     }
 
-    private String getTimerKey(long roomId) {
+    public String getTimerKey(long roomId) {
         return "game:" + roomId + ":timer";
     }
 
@@ -37,6 +39,13 @@ public class GameSeqRepository {
         redisTemplate.opsForValue().set(getPhaseKey(roomId), phase);
     }
 
+    // savePhase와 같은 형식으로 직렬화한 페이즈 값 (문자열 파이프라인으로 저장할 때 사용)
+    @SuppressWarnings("unchecked")
+    public String encodePhase(GamePhase phase) {
+        byte[] value = ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(phase);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
     // 타이머 조회
     public Long getTimer(long roomId) {
         Object value = redisTemplate.opsForValue().get(getTimerKey(roomId));
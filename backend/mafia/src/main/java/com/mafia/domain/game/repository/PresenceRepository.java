@@ -0,0 +1,106 @@
+package com.mafia.domain.game.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 모든 노드가 공유하는 접속 상태 (presence:{memberId} 해시, field: STOMP 세션 ID, value: 세션이 연결된 노드 ID).
+ * <p>
+ * 노드마다 가진 SimpUserRegistry는 자신에게 연결된 세션만 알기 때문에, 다른 노드로 재접속한 사용자를 확인하려고 세션을
+ * Redis에 기록한다. 노드가 비정상 종료되면 그 세션이 지워지지 않으므로, 접속 여부는 살아있는 노드의 세션으로만 판단하고
+ * 노드가 game:nodes 에서 빠지면 presence:node:{nodeId} 에 모아 둔 그 노드의 세션을 지운다. 키의 TTL은 정리되지 못한
+ * 기록의 최대 보관 기간이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PresenceRepository {
+
+    private static final Duration SESSION_TTL = Duration.ofHours(12); // 정리되지 않은 세션의 최대 보관 기간
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String getPresenceKey(long memberId) {
+        return "presence:" + memberId;
+    }
+
+    private String getNodeSessionsKey(String nodeId) {
+        return "presence:node:" + nodeId;
+    }
+
+    public void connected(long memberId, String sessionId, String nodeId) {
+        byte[] key = bytes(getPresenceKey(memberId));
+        byte[] nodeKey = bytes(getNodeSessionsKey(nodeId));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hSet(key, bytes(sessionId), bytes(nodeId));
+            connection.keyCommands().expire(key, SESSION_TTL.toSeconds());
+            connection.setCommands().sAdd(nodeKey, bytes(memberId + ":" + sessionId));
+            connection.keyCommands().expire(nodeKey, SESSION_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    public void disconnected(long memberId, String sessionId, String nodeId) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hDel(bytes(getPresenceKey(memberId)), bytes(sessionId));
+            connection.setCommands().sRem(bytes(getNodeSessionsKey(nodeId)), bytes(memberId + ":" + sessionId));
+            return null;
+        });
+    }
+
+    /**
+     * 살아있는 노드에 세션이 남아 있는 사용자를 한 번의 파이프라인으로 확인한다.
+     *
+     * @param liveNode 세션이 연결된 노드가 살아있는지
+     * @return memberIds와 같은 순서의 접속 여부
+     */
+    public List<Boolean> isConnected(List<Long> memberIds, Predicate<String> liveNode) {
+        List<Object> nodes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : memberIds) {
+                connection.hashCommands().hVals(bytes(getPresenceKey(memberId)));
+            }
+            return null;
+        });
+        List<Boolean> connected = new ArrayList<>(nodes.size());
+        for (Object sessions : nodes) {
+            connected.add(sessions instanceof Collection<?> values
+                && values.stream().anyMatch(node -> liveNode.test(String.valueOf(node))));
+        }
+        return connected;
+    }
+
+    /**
+     * 노드에 연결되어 있던 세션을 모두 지운다. (노드가 heartbeat 없이 사라진 경우)
+     *
+     * @return 지운 세션 수
+     */
+    public int purgeNode(String nodeId) {
+        String nodeKey = getNodeSessionsKey(nodeId);
+        Set<String> sessions = redisTemplate.opsForSet().members(nodeKey);
+        if (sessions == null || sessions.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String session : sessions) {
+                int separator = session.indexOf(':'); // "{memberId}:{sessionId}"
+                long memberId = Long.parseLong(session.substring(0, separator));
+                connection.hashCommands().hDel(bytes(getPresenceKey(memberId)), bytes(session.substring(separator + 1)));
+            }
+            connection.keyCommands().del(bytes(nodeKey));
+            return null;
+        });
+        return sessions.size();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
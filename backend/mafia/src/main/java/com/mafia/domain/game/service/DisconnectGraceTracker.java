@@ -0,0 +1,108 @@
+package com.mafia.domain.game.service;
+
+import com.mafia.domain.game.model.dto.NodeLeftEvent;
+import com.mafia.domain.game.repository.PresenceRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연결이 끊긴 사용자를 유예 시간 동안 기록해 두었다가, 그 안에 다시 연결하지 않은 사용자만 모아서 알린다.
+ * <p>
+ * 끊김마다 스레드를 재우지 않고 memberId -> 만료 시각만 남기며, 주기적인 정리 작업이 만료된 사용자를 한 번에 모아
+ * /topic/game/disconnect 로 묶어 보낸다. 재접속하면 기록을 지우고, 만료 시점에 다른 세션이 살아 있는 사용자도 제외한다.
+ * <p>
+ * SimpUserRegistry는 이 노드의 세션만 알기 때문에(simple 브로커와 relay 모두), 다른 노드로 재접속한 사용자는
+ * {@link PresenceRepository}에 공유된 세션으로 확인한다. 공유된 세션은 살아있는 노드의 것만 인정하고, 노드가 heartbeat
+ * 없이 사라지면 그 노드의 세션을 지운다.
+ */
+@Slf4j
+@Component
+public class DisconnectGraceTracker {
+
+    private static final int BATCH_SIZE = 1000; // 메시지 하나에 담는 최대 사용자 수
+
+    private final SimpMessagingTemplate template;
+    private final SimpUserRegistry userRegistry;
+    private final PresenceRepository presenceRepository;
+    private final GameLeaseManager leaseManager;
+    private final long graceMillis;
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>(); // memberId -> 유예 만료 시각
+
+    public DisconnectGraceTracker(SimpMessagingTemplate template, SimpUserRegistry userRegistry,
+        PresenceRepository presenceRepository, GameLeaseManager leaseManager,
+        @Value("${game.presence.grace-ms:4000}") long graceMillis) {
+        this.template = template;
+        this.userRegistry = userRegistry;
+        this.presenceRepository = presenceRepository;
+        this.leaseManager = leaseManager;
+        this.graceMillis = graceMillis;
+    }
+
+    public void disconnected(Long memberId, String sessionId) {
+        presenceRepository.disconnected(memberId, sessionId, leaseManager.getNodeId());
+        pending.put(memberId, System.currentTimeMillis() + graceMillis);
+    }
+
+    public void connected(Long memberId, String sessionId) {
+        presenceRepository.connected(memberId, sessionId, leaseManager.getNodeId());
+        if (pending.remove(memberId) != null) {
+            log.info("[DisconnectGraceTracker] {} 유예 시간 내 재접속", memberId);
+        }
+    }
+
+    /**
+     * 종료된 노드에 남은 세션 정리 - 지우지 않으면 그 노드에 연결됐던 사용자가 계속 접속 중으로 보인다.
+     */
+    @EventListener
+    public void onNodeLeft(NodeLeftEvent event) {
+        int purged = presenceRepository.purgeNode(event.getNodeId());
+        if (purged > 0) {
+            log.info("[DisconnectGraceTracker] 노드 {}의 세션 {}개 정리", event.getNodeId(), purged);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${game.presence.sweep-interval-ms:500}")
+    public void sweep() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<Long> candidates = new ArrayList<>();
+        pending.forEach((memberId, deadline) -> {
+            // 그 사이 다시 끊겨 만료 시각이 갱신됐으면 지우지 않는다
+            if (deadline <= now && pending.remove(memberId, deadline)
+                && userRegistry.getUser(String.valueOf(memberId)) == null) {
+                candidates.add(memberId);
+            }
+        });
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 이 노드에 세션이 없어도 다른 노드로 재접속했으면 제외한다
+        List<Boolean> connected = presenceRepository.isConnected(candidates, leaseManager::isLive);
+        List<Long> expired = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!connected.get(i)) {
+                expired.add(candidates.get(i));
+            }
+        }
+
+        for (int from = 0; from < expired.size(); from += BATCH_SIZE) {
+            List<Long> batch = expired.subList(from, Math.min(from + BATCH_SIZE, expired.size()));
+            template.convertAndSend("/topic/game/disconnect", batch);
+        }
+        if (!expired.isEmpty()) {
+            log.info("[DisconnectGraceTracker] 연결 종료 {}명 전송", expired.size());
+        }
+    }
+}
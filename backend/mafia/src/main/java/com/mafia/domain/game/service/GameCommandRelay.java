@@ -0,0 +1,173 @@
+package com.mafia.domain.game.service;
+
+import static com.mafia.global.common.model.dto.BaseResponseStatus.GAME_NOT_OWNED;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.game.model.dto.GameCommand;
+import com.mafia.domain.game.repository.GameLeaseRepository;
+import com.mafia.global.common.exception.exception.BusinessException;
+import com.mafia.global.common.model.dto.BaseResponseStatus;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드가 진행 중인 게임의 변경 명령을 lease를 가진 노드로 보내고 결과를 받아오는 중계기.
+ * <p>
+ * 노드마다 game:command:{nodeId} 채널을 구독한다. 명령을 받은 노드는 {@link GameService#execute}로 처리하고 보낸 노드의
+ * game:reply:{nodeId} 채널로 결과(반환값 또는 오류 코드)를 돌려준다. 받은 명령은 다시 전달하지 않으므로 그 사이 lease가
+ * 넘어갔으면 GAME_NOT_OWNED로 응답하고, 응답이 제한 시간 안에 오지 않아도 GAME_NOT_OWNED(다시 시도)로 처리한다.
+ */
+@Slf4j
+@Component
+public class GameCommandRelay implements MessageListener {
+
+    private static final String COMMAND_PREFIX = "game:command:"; // game-* 패턴 구독과 겹치지 않게
+    private static final String REPLY_PREFIX = "game:reply:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final GameLeaseRepository leaseRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<GameService> gameService; // GameService가 이 중계기를 쓰므로 처리할 때 찾는다
+    private final String nodeId;
+    private final long timeoutMillis;
+    private final Map<String, CompletableFuture<Reply>> waiting = new ConcurrentHashMap<>();
+    private final ExecutorService executor; // 명령 처리 (Redis 리스너 스레드를 막지 않게)
+
+    public GameCommandRelay(StringRedisTemplate redisTemplate, RedisMessageListenerContainer container,
+        GameLeaseRepository leaseRepository, GameLeaseManager leaseManager, ObjectMapper objectMapper,
+        ObjectProvider<GameService> gameService,
+        @Value("${game.command.timeout-ms:3000}") long timeoutMillis,
+        @Value("${game.command.workers:4}") int workers) {
+        this.redisTemplate = redisTemplate;
+        this.leaseRepository = leaseRepository;
+        this.objectMapper = objectMapper;
+        this.gameService = gameService;
+        this.nodeId = leaseManager.getNodeId();
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+            Thread thread = new Thread(runnable, "GameCommand-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        container.addMessageListener(this, List.of(new ChannelTopic(COMMAND_PREFIX + nodeId),
+            new ChannelTopic(REPLY_PREFIX + nodeId)));
+    }
+
+    /**
+     * lease를 가진 노드에서 명령을 처리하고 결과를 돌려받는다.
+     *
+     * @return 명령의 반환값 (타겟 지정 결과 등, 없으면 null)
+     * @throws BusinessException 처리한 노드가 던진 오류, 소유 노드가 없거나 응답이 없으면 GAME_NOT_OWNED
+     */
+    public String forward(GameCommand command) {
+        String owner = leaseRepository.findOwnerNode(command.gameId());
+        if (owner == null || owner.equals(nodeId)) { // lease가 만료되어 이어받는 중
+            throw new BusinessException(GAME_NOT_OWNED);
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        CompletableFuture<Reply> reply = new CompletableFuture<>();
+        waiting.put(requestId, reply);
+        try {
+            Long receivers = redisTemplate.convertAndSend(COMMAND_PREFIX + owner,
+                toJson(new Request(requestId, nodeId, command)));
+            if (receivers == null || receivers == 0) { // 소유 노드가 종료 중
+                throw new BusinessException(GAME_NOT_OWNED);
+            }
+            Reply result = reply.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (result.status() != null) {
+                throw new BusinessException(BaseResponseStatus.valueOf(result.status()));
+            }
+            return result.result();
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("[GameCommandRelay] 게임 {} 명령 {} 응답 없음 (owner: {})", command.gameId(), command.type(), owner);
+            throw new BusinessException(GAME_NOT_OWNED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(GAME_NOT_OWNED);
+        } finally {
+            waiting.remove(requestId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (channel.startsWith(REPLY_PREFIX)) {
+                Reply reply = objectMapper.readValue(body, Reply.class);
+                CompletableFuture<Reply> future = waiting.get(reply.requestId());
+                if (future != null) {
+                    future.complete(reply);
+                }
+            } else {
+                Request request = objectMapper.readValue(body, Request.class);
+                executor.execute(() -> handle(request));
+            }
+        } catch (JsonProcessingException e) {
+            log.error("[GameCommandRelay] 메시지 변환 실패 ({}): {}", channel, e.getMessage());
+        }
+    }
+
+    private void handle(Request request) {
+        Reply reply;
+        try {
+            reply = new Reply(request.requestId(), gameService.getObject().execute(request.command()), null);
+        } catch (BusinessException e) {
+            reply = new Reply(request.requestId(), null, e.getBaseResponseStatus().name());
+        } catch (Exception e) {
+            log.error("[GameCommandRelay] 게임 {} 명령 {} 처리 실패: {}", request.command().gameId(),
+                request.command().type(), e.getMessage(), e);
+            reply = new Reply(request.requestId(), null, GAME_NOT_OWNED.name());
+        }
+        try {
+            redisTemplate.convertAndSend(REPLY_PREFIX + request.replyTo(), toJson(reply));
+        } catch (RuntimeException e) {
+            log.warn("[GameCommandRelay] 응답 전송 실패 (node: {}): {}", request.replyTo(), e.getMessage());
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to convert game command to JSON", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    record Request(String requestId, String replyTo, GameCommand command) {
+
+    }
+
+    record Reply(String requestId, String result, String status) {
+
+    }
+}
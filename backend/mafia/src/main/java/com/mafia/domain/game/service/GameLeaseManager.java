@@ -0,0 +1,210 @@
+package com.mafia.domain.game.service;
+
+import com.mafia.domain.game.model.dto.GameLeaseLostEvent;
+import com.mafia.domain.game.model.dto.NodeLeftEvent;
+import com.mafia.domain.game.repository.GameLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 노드가 소유한 게임의 lease를 관리한다.
+ * <p>
+ * 게임은 lease를 가진 한 노드에서만 틱을 받는다. lease는 타이밍 휠이 주기적으로 갱신하므로 노드가 죽거나 휠이 멈추면
+ * TTL 후 만료되고, 살아있는 노드들의 consistent hash 링에서 해당 게임을 배정받은 노드가 이어받는다.
+ * <p>
+ * 새 게임은 링과 무관하게 시작 요청을 받은 노드가 lease를 잡는다. 방 정보를 막 읽은 노드에서 바로 틱을 시작하고, 다른
+ * 노드로 넘기는 동안 게임이 멈추지 않게 하기 위해서이다. 게임 분산은 요청 분산(로드 밸런서)에 맡기고, 링은 주인이 없어진
+ * 게임을 이어받을 노드를 고르는 데만 쓴다.
+ */
+@Slf4j
+@Component
+public class GameLeaseManager {
+
+    private static final int VIRTUAL_NODES = 64; // 노드당 링 위의 가상 노드 수
+
+    private final GameLeaseRepository leaseRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final long leaseTtlMillis;
+    private final long nodeTtlMillis;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 보유 중인 게임 -> fencing token
+    private final Map<Long, Long> ownedGames = new ConcurrentHashMap<>();
+    private volatile NavigableMap<Long, String> ring = new TreeMap<>();
+    private volatile Set<String> liveNodes = Set.of();
+    private volatile long lastRenewedAt = 0;
+
+    public GameLeaseManager(GameLeaseRepository leaseRepository,
+        ApplicationEventPublisher applicationEventPublisher,
+        @Value("${game.lease.ttl-ms:5000}") long leaseTtlMillis,
+        @Value("${game.lease.node-ttl-ms:10000}") long nodeTtlMillis) {
+        this.leaseRepository = leaseRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.nodeTtlMillis = nodeTtlMillis;
+    }
+
+    /**
+     * lease를 잡는다. 이미 이 노드가 소유 중이면 true.
+     */
+    public boolean tryAcquire(long gameId) {
+        if (ownedGames.containsKey(gameId)) {
+            return true;
+        }
+        long token = leaseRepository.acquire(gameId, nodeId, leaseTtlMillis);
+        if (token < 0) {
+            return false;
+        }
+        ownedGames.put(gameId, token);
+        log.info("[GameLeaseManager] 게임 {} lease 획득 (node: {}, token: {})", gameId, nodeId, token);
+        return true;
+    }
+
+    public boolean owns(long gameId) {
+        return ownedGames.containsKey(gameId);
+    }
+
+    /**
+     * 이 노드가 소유한 게임의 owner 값(노드 + fencing token). Redis 쓰기의 fencing 조건으로 쓴다.
+     *
+     * @return 소유하지 않은 게임이면 null
+     */
+    public String ownerOf(long gameId) {
+        Long token = ownedGames.get(gameId);
+        return token == null ? null : GameLeaseRepository.ownerValue(nodeId, token);
+    }
+
+    /**
+     * Redis에 쓰기 전 fencing token 확인 - lease가 다른 노드로 넘어갔으면 소유를 포기한다.
+     */
+    public boolean verify(long gameId) {
+        Long token = ownedGames.get(gameId);
+        if (token == null) {
+            return false;
+        }
+        if (leaseRepository.isHeldBy(gameId, GameLeaseRepository.ownerValue(nodeId, token))) {
+            return true;
+        }
+        lose(gameId);
+        return false;
+    }
+
+    /**
+     * 게임 종료 시 lease 반납
+     */
+    public void release(long gameId) {
+        Long token = ownedGames.remove(gameId);
+        if (token != null) {
+            leaseRepository.release(gameId, GameLeaseRepository.ownerValue(nodeId, token));
+        }
+    }
+
+    /**
+     * heartbeat와 보유 lease를 갱신한다. 타이밍 휠의 매 슬롯 시작 작업에서 호출되며 TTL의 1/3 주기로만 Redis를 호출한다.
+     */
+    public void renewIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastRenewedAt < leaseTtlMillis / 3) {
+            return;
+        }
+        lastRenewedAt = now;
+
+        List<Long> gameIds = new ArrayList<>();
+        List<String> owners = new ArrayList<>();
+        ownedGames.forEach((gameId, token) -> {
+            gameIds.add(gameId);
+            owners.add(GameLeaseRepository.ownerValue(nodeId, token));
+        });
+
+        for (int index : leaseRepository.renew(nodeId, now, leaseTtlMillis, gameIds, owners)) {
+            lose(gameIds.get(index));
+        }
+    }
+
+    /**
+     * 살아있는 노드 목록으로 consistent hash 링을 다시 만든다. 지난번 목록에 있던 노드가 빠졌으면
+     * {@link NodeLeftEvent}를 발행한다.
+     */
+    public void refreshRing() {
+        Set<String> nodes = leaseRepository.getLiveNodes(System.currentTimeMillis(), nodeTtlMillis);
+        for (String node : liveNodes) {
+            if (!nodes.contains(node) && !nodeId.equals(node)) {
+                log.warn("[GameLeaseManager] 노드 {} heartbeat 만료", node);
+                applicationEventPublisher.publishEvent(new NodeLeftEvent(node));
+            }
+        }
+        liveNodes = nodes;
+        NavigableMap<Long, String> newRing = new TreeMap<>();
+        for (String node : nodes) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                newRing.put(hash(node + "#" + i), node);
+            }
+        }
+        ring = newRing;
+    }
+
+    /**
+     * 마지막으로 확인한 살아있는 노드인지 확인한다. (자신은 항상 살아있는 것으로 본다)
+     */
+    public boolean isLive(String node) {
+        return nodeId.equals(node) || liveNodes.contains(node);
+    }
+
+    /**
+     * 링에서 이 게임을 배정받은 노드가 자신인지 확인한다. (링이 비어 있으면 자신이 유일한 노드로 본다)
+     */
+    public boolean isPreferredOwner(long gameId) {
+        NavigableMap<Long, String> current = ring;
+        if (current.isEmpty()) {
+            return true;
+        }
+        Map.Entry<Long, String> entry = current.ceilingEntry(hash(String.valueOf(gameId)));
+        String owner = entry != null ? entry.getValue() : current.firstEntry().getValue();
+        return nodeId.equals(owner);
+    }
+
+    private void lose(long gameId) {
+        if (ownedGames.remove(gameId) != null) {
+            log.warn("[GameLeaseManager] 게임 {} lease를 잃었습니다. (node: {})", gameId, nodeId);
+            applicationEventPublisher.publishEvent(new GameLeaseLostEvent(gameId));
+        }
+    }
+
+    /**
+     * 종료 시 링에서 자신을 제거한다. lease는 TTL로 만료시켜 종료 중 저장이 끝난 뒤 다른 노드가 이어받게 한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        leaseRepository.removeNode(nodeId);
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+}
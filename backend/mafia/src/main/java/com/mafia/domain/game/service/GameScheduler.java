@@ -5,64 +5,111 @@ import static com.mafia.global.common.model.dto.BaseResponseStatus.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mafia.domain.game.event.GamePublisher;
+import com.mafia.domain.game.event.GameSubscriber;
+import com.mafia.domain.game.event.GameTickBuffer;
 import com.mafia.domain.game.model.dto.GameEndEvent;
+import com.mafia.domain.game.model.dto.GameLeaseLostEvent;
+import com.mafia.domain.game.model.dto.GamePhaseChangedEvent;
 import com.mafia.domain.game.model.dto.GameStartEvent;
+import com.mafia.domain.game.model.dto.GameTimerSkipEvent;
 import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameEventType;
 import com.mafia.domain.game.model.game.GamePhase;
-import com.mafia.domain.game.repository.GameRepository;
+import com.mafia.domain.game.repository.GameEventRepository;
+import com.mafia.domain.game.repository.GameRegistry;
 import com.mafia.domain.game.repository.GameSeqRepository;
 import com.mafia.global.common.exception.exception.BusinessException;
-import com.mafia.global.common.service.GameSubscription;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
  * 게임의 진행을 관리하는 스케줄러 서비스 클래스.
  * 게임의 타이머를 관리하며 페이즈 전환을 수행한다.
+ * <p>
+ * 클라이언트에는 매초 남은 시간을 보내지 않고 페이즈 종료 시각(deadline)만 보낸다. 페이즈 전환, 시간 단축, 서버 틱 지연
+ * 시에만 다시 동기화하며 중간 입장한 클라이언트를 위해 {@link #RESYNC_INTERVAL_SEC}초마다 한 번 더 보낸다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GameScheduler {
+    private static final long DRIFT_TOLERANCE_MILLIS = 500; // 이보다 deadline이 어긋나면 재동기화
+    private static final int RESYNC_INTERVAL_SEC = 15;
+
     // 애플리케이션이 실행 중인지 여부를 나타내는 플래그
     private volatile boolean running = true;
 
     private final GameSeqRepository gameSeqRepository;
-    private final GameRepository gameRepository;
+    private final GameRegistry gameRegistry;
     private final GameService gameService;
     private final GamePublisher gamePublisher;
     private final ObjectMapper objectMapper;
-    private final GameSubscription subscription;
+    private final GameTickEngine tickEngine;
+    private final GameTickBuffer tickBuffer;
+    private final GameLeaseManager leaseManager;
+    private final GameEventRepository gameEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     // 각 게임의 타이머를 관리하는 맵
     private final Map<Long, Integer> gameTimers = new ConcurrentHashMap<>();
+    // 각 게임의 현재 페이즈 종료 시각 (epoch ms)
+    private final Map<Long, Long> phaseDeadlines = new ConcurrentHashMap<>();
 
     /**
-     * 서버가 재시작될 때 실행 중이던 게임을 복원
+     * 서버가 재시작될 때 실행 중이던 게임 중 이 노드에 배정된 게임을 복원
      */
     @Bean
     public ApplicationRunner recoverActiveGames() {
         return args -> {
-            Set<String> activeGameIds = gameSeqRepository.getActiveGames();
-            if (activeGameIds != null) {
-                for (String gameIdStr : activeGameIds) {
-                    Long gameId = Long.parseLong(gameIdStr);
-                    restoreGame(gameId);
-                }
-            }
+            leaseManager.renewIfDue(); // 링에 자신을 먼저 등록
+            claimOrphanedGames();
         };
     }
 
+    /**
+     * 소유자가 없는 활성 게임 중 consistent hash 링에서 이 노드에 배정된 게임의 lease를 잡고 복원한다.
+     * (소유 노드가 죽으면 lease가 만료되어 여기서 이어받는다)
+     */
+    @Scheduled(fixedDelayString = "${game.lease.scan-interval-ms:3000}")
+    public void claimOrphanedGames() {
+        if (!running) {
+            return;
+        }
+        leaseManager.refreshRing();
+        for (String gameIdStr : gameSeqRepository.getActiveGames()) {
+            long gameId = Long.parseLong(gameIdStr);
+            if (leaseManager.owns(gameId) || !leaseManager.isPreferredOwner(gameId)) {
+                continue;
+            }
+            if (leaseManager.tryAcquire(gameId)) {
+                restoreGame(gameId);
+            }
+        }
+    }
+
+    /**
+     * 휠의 매 슬롯 시작 시 이전 슬롯 틱들이 쌓아 둔 Redis 명령과 게임 이벤트를 한 번에 전송하고, 주기가 되면 lease를
+     * 갱신한다. (휠 스레드가 아니라 워커에서 실행되므로 Redis 지연이 휠을 밀지 않는다)
+     */
+    @PostConstruct
+    public void init() {
+        tickEngine.onSlotStart(() -> {
+            tickBuffer.flush();
+            gameEventRepository.flush();
+            leaseManager.renewIfDue();
+        });
+    }
+
     @PreDestroy
     public void shutdown() {
         log.info("[GameScheduler] 애플리케이션 종료 감지, 모든 게임 스케줄러 종료...");
@@ -76,36 +123,81 @@ public class GameScheduler {
         GamePhase lastPhase = gameSeqRepository.getPhase(gameId);
         Integer lastTimer = gameSeqRepository.getTimer(gameId).intValue();
 
-        if (lastPhase != null && lastTimer != null) {
-            log.info("[GameScheduler] 서버 재시작 - 게임 {} 복원 (Phase: {}, Timer: {}초)", gameId, lastPhase, lastTimer);
-            subscription.subscribe(gameId);
+        // Redis의 마지막 상태를 메모리로 복원 (이전에 소유했을 때 남은 메모리 상태는 버린다)
+        if (lastPhase != null && lastTimer != null && gameRegistry.restore(gameId).isPresent()) {
+            log.info("[GameScheduler] 게임 {} 복원 (Phase: {}, Timer: {}초)", gameId, lastPhase, lastTimer);
             gameTimers.put(gameId, lastTimer); // 내부 타이머 저장
             // 게임 스케줄러 다시 시작
             startGameScheduler(new GameStartEvent(gameId));
+        } else {
+            leaseManager.release(gameId);
         }
     }
 
 
     /**
-     * 특정 게임 스케줄러 시작 (각 게임이 독립적으로 실행됨)
+     * 특정 게임 스케줄러 시작 (타이밍 휠에 게임을 등록하여 1초마다 틱을 받는다)
      */
     @EventListener
-    @Async("gameTaskExecutor") // 멀티 쓰레드로 실행
     public void startGameScheduler(GameStartEvent event) {
         Long gameId = event.getGameId();
+        if (!leaseManager.tryAcquire(gameId)) { // 다른 노드가 진행 중인 게임
+            log.warn("[GameScheduler] 게임 {}은 다른 노드가 진행 중이므로 스케줄러를 시작하지 않습니다.", gameId);
+            gameRegistry.remove(gameId); // 소유하지 않은 게임은 메모리에 두지 않는다
+            return;
+        }
         gameSeqRepository.setActiveGame(gameId);
         log.info("[GameScheduler] 게임 {} 스케줄러 시작", gameId);
 
         int remainingTime = gameSeqRepository.getTimer(gameId).intValue();
         gameTimers.put(gameId, remainingTime); // 타이머 초기화
+        gameRegistry.find(gameId).ifPresent(game ->
+            publishDeadline(gameId, game.getPhase(), deadlineOf(remainingTime)));
+        tickEngine.register(gameId, () -> tick(gameId));
+    }
 
-        while (running && gameSeqRepository.isGameActive(gameId)) { // 게임이 활성화되어 있으면 실행
-            try {
-                processTimers(gameId);
-                TimeUnit.SECONDS.sleep(1); // 1초마다 실행
-            } catch (InterruptedException | JsonProcessingException e) {
-                Thread.currentThread().interrupt();
+    /**
+     * 토론 시간 단축. 남은 시간이 15초 미만이 되면 단축할 수 없다.
+     *
+     * @param event 시간 단축 이벤트 (GameTimerSkipEvent)
+     * @throws BusinessException 게임이 없거나 단축할 시간이 부족할 경우 예외 발생
+     */
+    @EventListener
+    public void skipTimer(GameTimerSkipEvent event) {
+        long gameId = event.getGameId();
+        int seconds = event.getSeconds();
+
+        Integer remainingTime = gameTimers.computeIfPresent(gameId, (id, time) -> {
+            if (time - seconds < 15) {
+                throw new BusinessException(GAME_TIME_OVER);
             }
+            return time - seconds;
+        });
+        if (remainingTime == null) {
+            throw new BusinessException(leaseManager.owns(gameId) ? GAME_NOT_FOUND : GAME_NOT_OWNED);
+        }
+
+        saveTimerLater(gameId); // 아직 전송되지 않은 틱의 값 대신 단축된 값이 저장된다
+        Long deadline = phaseDeadlines.computeIfPresent(gameId, (id, at) -> at - seconds * 1000L);
+        gameRegistry.find(gameId).ifPresent(game -> publishDeadline(gameId, game.getPhase(),
+            deadline != null ? deadline : deadlineOf(remainingTime)));
+    }
+
+    /**
+     * 타이밍 휠이 1초마다 호출하는 게임별 틱 처리 (휠 등록 여부가 곧 활성 게임 여부이므로 Redis를 조회하지 않는다)
+     */
+    private void tick(long gameId) {
+        if (!running) {
+            tickEngine.unregister(gameId);
+            return;
+        }
+        try {
+            processTimers(gameId);
+        } catch (JsonProcessingException e) {
+            log.error("[GameScheduler] 게임 {} 타이머 메시지 변환 실패: {}", gameId, e.getMessage());
+        } catch (BusinessException e) {
+            log.error("[GameScheduler] 게임 {} 스케줄러 중단: {}", gameId, e.getMessage());
+            tickEngine.unregister(gameId);
         }
     }
 
@@ -120,19 +212,42 @@ public class GameScheduler {
 
         // Redis에서 게임 실행 정보 삭제
         gameSeqRepository.removeActiveGame(gameId);
+        leaseManager.release(gameId);
+        tickEngine.unregister(gameId);
         gameTimers.remove(gameId); // 내부 타이머 삭제
+        phaseDeadlines.remove(gameId);
+        discardPendingWrites(gameId); // 삭제된 키가 다시 저장되지 않게
         log.info("[GameScheduler] 게임 {}의 스케줄러가 종료되었습니다.", gameId);
     }
 
+    /**
+     * lease를 잃은 게임은 더 이상 틱을 처리하지 않고 메모리에서 내린다. (새 소유 노드가 Redis에서 복원한다)
+     */
+    @EventListener
+    public void releaseLostGame(GameLeaseLostEvent event) {
+        Long gameId = event.getGameId();
+        tickEngine.unregister(gameId);
+        gameTimers.remove(gameId);
+        phaseDeadlines.remove(gameId);
+        discardPendingWrites(gameId);
+        gameRegistry.remove(gameId);
+        log.warn("[GameScheduler] 게임 {} 소유권 상실로 스케줄러를 중단합니다.", gameId);
+    }
+
     /**
      * 특정 게임의 타이머를 처리하고 페이즈를 전환한다.
+     * <p>
+     * 페이즈는 메모리의 게임에서 읽고, 타이머 저장과 시스템 채널 publish는 {@link GameTickBuffer}에 쌓아 슬롯 단위
+     * 파이프라인으로 전송한다. 남은 시간은 deadline이 어긋났거나 재동기화 주기일 때만 publish 한다.
      *
      * @param gameId 게임 ID
      * @throws JsonProcessingException JSON 변환 오류 발생 시 예외 처리
      */
     private void processTimers(long gameId) throws JsonProcessingException {
+        Game game = gameRegistry.find(gameId)
+            .orElseThrow(() -> new BusinessException(GAME_NOT_FOUND));
         int remainingTime = gameTimers.getOrDefault(gameId, 0);
-        GamePhase phase = gameSeqRepository.getPhase(gameId);
+        GamePhase phase = game.getPhase();
 
         if(remainingTime == 5 && phase == GamePhase.DAY_FINAL_VOTE){
             gameService.getFinalVoteResult(gameId);
@@ -140,16 +255,73 @@ public class GameScheduler {
 
         if (remainingTime <= 0) {
             advanceGamePhase(gameId);
-        } else {
-            gameTimers.put(gameId, remainingTime - 1);
+            return;
+        }
+
+        Integer nextTime = gameTimers.computeIfPresent(gameId, (id, time) -> time - 1);
+        if (nextTime == null) { // 틱 도중 게임이 종료됨
+            return;
         }
+        saveTimerLater(gameId);
+
+        long expected = deadlineOf(nextTime);
+        Long deadline = phaseDeadlines.get(gameId);
+        if (deadline == null || Math.abs(deadline - expected) > DRIFT_TOLERANCE_MILLIS
+            || remainingTime % RESYNC_INTERVAL_SEC == 0) {
+            publishDeadline(gameId, phase, expected);
+        }
+    }
+
+    /**
+     * 남은 시간을 다음 슬롯의 파이프라인으로 저장한다. 값은 전송 시점의 메모리 타이머를 읽는다. (게임이 끝났으면 저장하지 않음)
+     */
+    private void saveTimerLater(long gameId) {
+        tickBuffer.set(gameId, gameSeqRepository.getTimerKey(gameId), () -> {
+            Integer time = gameTimers.get(gameId);
+            return time == null ? null : String.valueOf(time);
+        });
+    }
+
+    /**
+     * 페이즈를 다음 슬롯의 파이프라인으로 저장한다. (게임이 끝났으면 저장하지 않음)
+     */
+    private void savePhaseLater(long gameId, GamePhase phase) {
+        String encoded = gameSeqRepository.encodePhase(phase);
+        tickBuffer.set(gameId, gameSeqRepository.getPhaseKey(gameId),
+            () -> gameTimers.containsKey(gameId) ? encoded : null);
+    }
+
+    private void discardPendingWrites(long gameId) {
+        tickBuffer.discard(gameSeqRepository.getTimerKey(gameId));
+        tickBuffer.discard(gameSeqRepository.getPhaseKey(gameId));
+    }
 
-        // JSON 메시지 생성 및 publish
-        String jsonMessage = objectMapper.writeValueAsString(
-            Map.of("time", String.valueOf(remainingTime), "phase", String.valueOf(phase))
-        );
+    /**
+     * 다음 틱(1초 뒤)부터 남은 시간만큼 지난 시각. 타이머가 0인 틱에서 페이즈가 전환된다.
+     */
+    private static long deadlineOf(int remainingTime) {
+        return System.currentTimeMillis() + (remainingTime + 1) * 1000L;
+    }
 
-        gamePublisher.publish("game-" + gameId + "-system", jsonMessage);
+    /**
+     * 페이즈 종료 시각을 시스템 채널로 보낸다. 클라이언트는 serverTime과의 차이로 로컬에서 남은 시간을 계산한다.
+     */
+    private void publishDeadline(long gameId, GamePhase phase, long deadline) {
+        phaseDeadlines.put(gameId, deadline);
+        long now = System.currentTimeMillis();
+        try {
+            // JSON 메시지 생성 및 publish
+            String jsonMessage = objectMapper.writeValueAsString(Map.of(
+                GameSubscriber.TYPE, GameSubscriber.TYPE_TIMER,
+                "time", String.valueOf(Math.max(0, (deadline - now) / 1000)),
+                "phase", String.valueOf(phase),
+                "deadline", String.valueOf(deadline),
+                "serverTime", String.valueOf(now)
+            ));
+            tickBuffer.publish(gameId, "game-" + gameId + "-system", jsonMessage);
+        } catch (JsonProcessingException e) {
+            log.error("[GameScheduler] 게임 {} 타이머 메시지 변환 실패: {}", gameId, e.getMessage());
+        }
     }
 
 
@@ -161,11 +333,36 @@ public class GameScheduler {
      * @throws JsonProcessingException JSON 변환 오류 발생 시 예외 처리
      */
     private void advanceGamePhase(long gameId) throws JsonProcessingException {
-        Game game = gameRepository.findById(gameId)
+        String owner = leaseManager.ownerOf(gameId);
+        if (owner == null || !leaseManager.verify(gameId)) { // 다른 노드가 이어받았으면 전환하지 않는다
+            return;
+        }
+        Game game = gameRegistry.find(gameId)
             .orElseThrow(() -> new BusinessException(GAME_NOT_FOUND));
 
+        synchronized (game) {
+            applyPhaseTransition(game);
+        }
+        // 페이즈 전환 시 스냅샷을 즉시 Redis에 저장 (lease가 그 사이 넘어갔으면 저장되지 않고 소유권을 내려놓는다)
+        if (!gameRegistry.flush(gameId, owner)) {
+            leaseManager.verify(gameId);
+            return;
+        }
+        applicationEventPublisher.publishEvent(new GamePhaseChangedEvent(gameId, game.getPhase())); // 사망자 채널 권한 등 갱신
+        if (tickEngine.isRegistered(gameId)) { // 전환 중 게임이 종료되지 않았다면 새 페이즈 종료 시각 전송
+            publishDeadline(gameId, game.getPhase(), deadlineOf(gameTimers.getOrDefault(gameId, 0)));
+        }
+        log.info("Game phase advanced in Room {}: New Phase = {}, Timer = {} seconds",
+            gameId, game.getPhase(), gameTimers.get(gameId));
+    }
 
-        GamePhase curPhase = gameSeqRepository.getPhase(gameId);
+    /**
+     * 페이즈 전환 처리 (호출 측에서 game 모니터를 잡고 호출한다)
+     */
+    private void applyPhaseTransition(Game game) throws JsonProcessingException {
+        long gameId = game.getGameId();
+
+        GamePhase curPhase = game.getPhase();
         GamePhase nxtPhase;
         int setTime = 10;
 
@@ -183,7 +380,7 @@ public class GameScheduler {
 
                 gamePublisher.publish("game-" + gameId + "-system", jsonMessage);
 
-                if(game.voteResult() == -1){
+                if(result == -1){
                     game.updateVoicePermissions("night"); // 좀비만 음성 채팅 활성화
                     nxtPhase = GamePhase.NIGHT_ACTION;
                     setTime = game.getSetting().getNightTimeSec();
@@ -213,11 +410,10 @@ public class GameScheduler {
         }
 
         gameTimers.put(gameId, setTime);
-        gameSeqRepository.saveTimer(gameId, setTime);
-        gameSeqRepository.savePhase(gameId, nxtPhase);
-        gameRepository.save(game);
-        log.info("Game phase advanced in Room {}: New Phase = {}, Timer = {} seconds",
-            gameId, gameSeqRepository.getPhase(gameId), gameSeqRepository.getTimer(gameId));
+        game.setPhase(nxtPhase);
+        gameEventRepository.append(game, GameEventType.PHASE, nxtPhase, null);
+        saveTimerLater(gameId); // 타이머와 페이즈 키도 lease로 fencing 되는 파이프라인으로 저장
+        savePhaseLater(gameId, nxtPhase);
     }
 
 
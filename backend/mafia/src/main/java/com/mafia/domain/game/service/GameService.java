@@ -6,23 +6,27 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mafia.domain.game.event.GamePublisher;
 import com.mafia.domain.game.model.dto.EndGameInfoDto;
+import com.mafia.domain.game.model.dto.GameCommand;
 import com.mafia.domain.game.model.dto.GameEndEvent;
 import com.mafia.domain.game.model.dto.GameInfoDto;
 import com.mafia.domain.game.model.dto.GameStartEvent;
+import com.mafia.domain.game.model.dto.GameTimerSkipEvent;
 import com.mafia.domain.game.model.entity.GameLog;
 import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameEventType;
 import com.mafia.domain.game.model.game.GamePhase;
 import com.mafia.domain.game.model.game.GameStatus;
 import com.mafia.domain.game.model.game.Player;
 import com.mafia.domain.game.model.game.Role;
+import com.mafia.domain.game.repository.GameEventRepository;
 import com.mafia.domain.game.repository.GameLogRepository;
+import com.mafia.domain.game.repository.GameRegistry;
 import com.mafia.domain.game.repository.GameRepository;
 import com.mafia.domain.game.repository.GameSeqRepository;
 import com.mafia.domain.member.service.MemberService;
 import com.mafia.domain.room.model.redis.RoomInfo;
 import com.mafia.domain.room.service.RoomRedisService;
 import com.mafia.global.common.exception.exception.BusinessException;
-import com.mafia.global.common.service.GameSubscription;
 import jakarta.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -46,11 +50,13 @@ public class GameService {
     private final RoomRedisService roomService;
     private final MemberService memberService;
     private final GameRepository gameRepository; // 게임 데이터를 관리하는 리포지토리
+    private final GameRegistry gameRegistry; // 진행 중인 게임의 메모리 상태 (Redis write-behind)
+    private final GameEventRepository gameEventRepository; // 게임 액션 이벤트 스트림
     private final GameSeqRepository gameSeqRepository; // 게임 상태 및 시간 정보를 관리하는 리포지토리
     private final GameLogRepository gameLogRepository;
     private final VoiceService voiceService; // 🔥 OpenVidu 연동 추가
     private final GamePublisher gamePublisher; // Game Websocket
-    private final GameSubscription subscription;
+    private final GameCommandRelay commandRelay; // 다른 노드가 진행 중인 게임의 변경 명령 전달
     private final ObjectMapper objectMapper;
     private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -64,7 +70,9 @@ public class GameService {
      */
     public GameInfoDto getGameInfo(Long memberId, long gameId) {
         Game game = findById(gameId);
-        return new GameInfoDto(memberId, game);
+        synchronized (game) {
+            return new GameInfoDto(memberId, game);
+        }
     }
 
     /**
@@ -83,17 +91,55 @@ public class GameService {
     }
 
     /**
-     * 게임 조회
+     * 게임 조회 (읽기 전용) - 다른 노드가 진행 중인 게임이면 Redis의 마지막 상태로 만든 복사본을 돌려준다.
      *
      * @param gameId 방 ID
      * @return 게임 객체
      * @throws BusinessException 게임이 존재하지 않을 경우 예외 발생
      */
     public Game findById(long gameId) {
-        return gameRepository.findById(gameId)
+        return gameRegistry.read(gameId)
             .orElseThrow(() -> new BusinessException(GAME_NOT_FOUND));
     }
 
+    /**
+     * 변경할 게임 조회 - 이 노드가 lease를 가지고 진행 중인 게임만 변경할 수 있다.
+     *
+     * @throws BusinessException 게임이 없으면 GAME_NOT_FOUND, 다른 노드가 진행 중이면 GAME_NOT_OWNED
+     */
+    private Game findOwned(long gameId) {
+        return gameRegistry.find(gameId)
+            .orElseThrow(() -> new BusinessException(
+                gameSeqRepository.getPhase(gameId) != null ? GAME_NOT_OWNED : GAME_NOT_FOUND));
+    }
+
+    /**
+     * 다른 노드가 lease를 가지고 진행 중인 게임인지 확인 - 변경 명령은 그 노드로 보내 처리한다.
+     */
+    private boolean isRemote(long gameId) {
+        return gameRegistry.find(gameId).isEmpty() && gameSeqRepository.getPhase(gameId) != null;
+    }
+
+    /**
+     * 다른 노드가 보낸 변경 명령 처리 - 이 노드가 진행 중인 게임만 처리하며 다시 전달하지 않는다.
+     *
+     * @return 명령의 반환값 (타겟 지정 결과, 없으면 null)
+     * @throws BusinessException 이 노드가 진행 중인 게임이 아니면 GAME_NOT_OWNED
+     */
+    public String execute(GameCommand command) throws JsonProcessingException {
+        long gameId = command.gameId();
+        switch (command.type()) {
+            case VOTE -> voteOwned(gameId, command.playerNo(), command.targetNo());
+            case FINAL_VOTE -> finalVoteOwned(gameId, command.playerNo());
+            case TARGET -> {
+                return setTargetOwned(gameId, command.playerNo(), command.targetNo());
+            }
+            case SKIP -> skipDiscussionOwned(gameId, command.seconds());
+            case DELETE -> deleteOwned(gameId, command.version());
+        }
+        return null;
+    }
+
     /**
      * 게임 시작
      *
@@ -101,13 +147,14 @@ public class GameService {
      * @throws BusinessException 이미 시작된 게임이거나 플레이어가 부족할 경우 예외 발생
      */
     public boolean startGame(long gameId) {
-        gameRepository.findById(gameId).ifPresent(game -> {
+        if (gameRegistry.find(gameId).isPresent() || gameSeqRepository.getPhase(gameId) != null) {
             throw new BusinessException(GAME_ALREADY_START);
-        });
+        }
         Game game = makeGame(gameId);
 
         log.info("Game {} created.", gameId);
         game.startGame();
+        game.setPhase(GamePhase.DAY_DISCUSSION);
         gameSeqRepository.savePhase(gameId, GamePhase.DAY_DISCUSSION); // 낮 토론 시작
         gameSeqRepository.saveTimer(gameId, game.getSetting().getDayDisTimeSec()); // 설정된 시간
 
@@ -126,9 +173,8 @@ public class GameService {
             log.error("Failed to create OpenVidu session: {}", e.getMessage());
         }
 
-        //Redis 채팅방 생성
-        subscription.subscribe(gameId);
-        gameRepository.save(game);
+        gameEventRepository.delete(gameId, null); // 같은 방 이전 게임이 남긴 이전 형식 스트림 정리
+        gameRegistry.register(game);
         log.info("Game started in Room {}: Phase set to {}, Timer set to {} seconds",
             gameId, GamePhase.DAY_DISCUSSION, game.getSetting().getDayDisTimeSec());
         applicationEventPublisher.publishEvent(new GameStartEvent(gameId));
@@ -155,7 +201,15 @@ public class GameService {
      */
     @Transactional
     public void deleteGame(long gameId, String version) throws JsonProcessingException {
-        Game game = findById(gameId);
+        if (isRemote(gameId)) {
+            commandRelay.forward(GameCommand.delete(gameId, version));
+            return;
+        }
+        deleteOwned(gameId, version);
+    }
+
+    private void deleteOwned(long gameId, String version) throws JsonProcessingException {
+        Game game = findOwned(gameId);
         Optional.ofNullable(gameSeqRepository.getTimer(gameId))
             .orElseThrow(() -> new BusinessException(PHASE_NOT_FOUND));
         Optional.ofNullable(gameSeqRepository.getPhase(gameId))
@@ -180,10 +234,9 @@ public class GameService {
         // 게임 스레드 풀 반납
         applicationEventPublisher.publishEvent(new GameEndEvent(gameId));
 
-        //Redis 채팅 채널 제거
-        subscription.unsubscribe(gameId);
-
+        gameRegistry.remove(gameId);
         gameRepository.delete(gameId);
+        gameEventRepository.delete(gameId, game.getEventEpoch());
         gameSeqRepository.delete(gameId);
 
         // 🔥 OpenVidu 세션 종료
@@ -198,30 +251,41 @@ public class GameService {
     }
 
     /**
-     * 투표 처리
+     * 투표 처리 - 페이즈, 생존, 직업 검증과 투표 기록을 게임 모니터 안에서 한 번에 처리한다.
      *
      * @param gameId   방 ID
      * @param playerNo 투표를 하는 사용자 ID
      * @param targetNo 투표 대상 사용자 번호
      * @throws BusinessException 유효하지 않은 투표 조건일 경우 예외 발생
      */
-    public void vote(long gameId, Long playerNo, Integer targetNo) { // 투표 sync 고려
-        Game game = findById(gameId);
+    public void vote(long gameId, Long playerNo, Integer targetNo) {
+        if (isRemote(gameId)) {
+            commandRelay.forward(GameCommand.vote(gameId, playerNo, targetNo));
+            return;
+        }
+        voteOwned(gameId, playerNo, targetNo);
+    }
+
+    private void voteOwned(long gameId, Long playerNo, Integer targetNo) {
+        Game game = findOwned(gameId);
         if (game != null) {
-            if (targetNo == -1) // 기권 처리
-            {
-                log.info("[Game{}] Player {} is abstention", gameId, playerNo);
-                return;
-            }
-            if (game.getPlayers().get(playerNo).isDead()) {
-                throw new BusinessException(DEAD_CANNOT_VOTE);
+            synchronized (game) {
+                validatePhase(game, GamePhase.DAY_VOTE);
+                if (targetNo == -1) // 기권 처리
+                {
+                    log.info("[Game{}] Player {} is abstention", gameId, playerNo);
+                    return;
+                }
+                if (findPlayer(game, playerNo).isDead()) {
+                    throw new BusinessException(DEAD_CANNOT_VOTE);
+                }
+                if (game.getPlayers().get(playerNo).getRole() == Role.MUTANT) {
+                    throw new BusinessException(MUTANT_CANNOT_VOTE);
+                }
+
+                game.vote(playerNo, targetNo);
+                gameEventRepository.append(game, GameEventType.VOTE, playerNo, targetNo);
             }
-            if (game.getPlayers().get(playerNo).getRole() == Role.MUTANT) {
-                throw new BusinessException(MUTANT_CANNOT_VOTE);
-            }
-
-            game.vote(playerNo, targetNo);
-            gameRepository.save(game);
             log.info("Player {} voted for Target {} in Room {}.", playerNo, targetNo, gameId);
         } else {
             log.warn("Room {} does not exist.", gameId);
@@ -231,14 +295,28 @@ public class GameService {
     /**
      * 최종 찬반 투표: 보내는거 자체가 수락임
      *
-     * @param gameId 방 ID
-     *
+     * @param gameId   방 ID
+     * @param playerNo 투표를 하는 사용자 ID
+     * @throws BusinessException 최종 투표 페이즈가 아니거나 사망한 플레이어일 경우 예외 발생
      */
-    public void finalVote(long gameId) {
-        Game game = findById(gameId);
-        game.finalVote();
+    public void finalVote(long gameId, Long playerNo) {
+        if (isRemote(gameId)) {
+            commandRelay.forward(GameCommand.finalVote(gameId, playerNo));
+            return;
+        }
+        finalVoteOwned(gameId, playerNo);
+    }
 
-        gameRepository.save(game);
+    private void finalVoteOwned(long gameId, Long playerNo) {
+        Game game = findOwned(gameId);
+        synchronized (game) {
+            validatePhase(game, GamePhase.DAY_FINAL_VOTE);
+            if (findPlayer(game, playerNo).isDead()) {
+                throw new BusinessException(DEAD_CANNOT_VOTE);
+            }
+            game.finalVote();
+            gameEventRepository.append(game, GameEventType.FINAL_VOTE, playerNo, null);
+        }
     }
 
 
@@ -249,8 +327,12 @@ public class GameService {
      *
      */
     protected void getFinalVoteResult(long gameId) throws JsonProcessingException {
-        Game game = findById(gameId);
-        boolean isKill = game.finalvoteResult();
+        Game game = findOwned(gameId);
+        boolean isKill;
+        synchronized (game) {
+            isKill = game.finalvoteResult();
+            gameEventRepository.append(game, GameEventType.FINAL_VOTE_RESULT, null, null);
+        }
 
         String topic = "game-" + gameId + "-system";
         // JSON 메시지 생성 및 publish
@@ -261,7 +343,6 @@ public class GameService {
 
         if (isKill) {
             log.info("[Game{}] Vote Kill!!!!!", gameId);
-            gameRepository.save(game);
         }
         else log.info("[Game{}] No one is selected", gameId);
     }
@@ -295,7 +376,6 @@ public class GameService {
             // Redis Pub/Sub 전송
             gamePublisher.publish("game-" + game.getGameId() + "-system", jsonMessage);
         }
-        gameRepository.save(game);
     }
 
     /**
@@ -308,21 +388,52 @@ public class GameService {
      */
     public String setTarget(long gameId, Long playerNo, Integer targetNo)
         throws JsonProcessingException {
-        Game game = findById(gameId);
-        Role myrole = game.getPlayers().get(playerNo).getRole();
+        if (isRemote(gameId)) {
+            return commandRelay.forward(GameCommand.target(gameId, playerNo, targetNo));
+        }
+        return setTargetOwned(gameId, playerNo, targetNo);
+    }
+
+    private String setTargetOwned(long gameId, Long playerNo, Integer targetNo)
+        throws JsonProcessingException {
+        Game game = findOwned(gameId);
         log.info("Service set Target 실행");
-        String result = "";
+        Role myrole;
+        String result;
+        synchronized (game) {
+            validatePhase(game, GamePhase.NIGHT_ACTION);
+            Player player = findPlayer(game, playerNo);
+            if (player.isDead()) {
+                throw new BusinessException(DEAD_CANNOT_ACT);
+            }
+            myrole = player.getRole();
+            result = applyTarget(game, myrole, targetNo);
+        }
         if (myrole == Role.ZOMBIE) {
-            game.specifyTarget(Role.ZOMBIE, targetNo);
-            result = targetNo + "플레이어는 감염 타겟이 되었습니다.";
             String topic = "game-" + gameId + "-maifa-system";
             // JSON 메시지 생성 및 publish
             String message = objectMapper.writeValueAsString(
                 Map.of("zombiepick", targetNo)
             );
             gamePublisher.publish(topic, message);
+        }
+
+        log.info("[Game{}] Player{} set the target of {}", gameId, targetNo, myrole);
+        return result.isEmpty() ? "setTarget 요청 실패" : result;
+    }
+
+    /**
+     * 직업별 타겟 지정 처리 (호출 측에서 game 모니터를 잡고 호출한다)
+     */
+    private String applyTarget(Game game, Role myrole, Integer targetNo) {
+        String result = "";
+        if (myrole == Role.ZOMBIE) {
+            game.specifyTarget(Role.ZOMBIE, targetNo);
+            gameEventRepository.append(game, GameEventType.TARGET, Role.ZOMBIE, targetNo);
+            result = targetNo + "플레이어는 감염 타겟이 되었습니다.";
         } else if (myrole == Role.MUTANT) {
             game.specifyTarget(Role.MUTANT, targetNo);
+            gameEventRepository.append(game, GameEventType.TARGET, Role.MUTANT, targetNo);
             result = targetNo + "플레이어는 돌연변이 타겟이 되었습니다.";
         } else if (myrole == Role.POLICE) {
             Role findrole = game.findRole(targetNo);
@@ -332,13 +443,11 @@ public class GameService {
                 result = "남은 백신이 없습니다.";
             } else {
                 int heal_cnt = game.heal(targetNo);
+                gameEventRepository.append(game, GameEventType.HEAL, null, targetNo);
                 result = targetNo + "을 살리기로 했습니다. 남은 백신은 " + heal_cnt + "개 입니다.";
             }
         }
-
-        log.info("[Game{}] Player{} set the target of {}", gameId, targetNo, myrole);
-        gameRepository.save(game);
-        return result.isEmpty() ? "setTarget 요청 실패" : result;
+        return result;
     }
 
     /**
@@ -349,12 +458,17 @@ public class GameService {
      * @throws BusinessException 남은 시간이 적을 경우 예외 발생
      */
     public void skipDiscussion(long gameId, int sec) {
-        int now = gameSeqRepository.getTimer(gameId).intValue();
-        if (now - sec < 15) {
-            throw new BusinessException(GAME_TIME_OVER);
+        if (isRemote(gameId)) {
+            commandRelay.forward(GameCommand.skip(gameId, sec));
+            return;
         }
+        skipDiscussionOwned(gameId, sec);
+    }
 
-        gameSeqRepository.decrementTimer(gameId, sec);
+    private void skipDiscussionOwned(long gameId, int sec) {
+        findOwned(gameId);
+        // 타이머는 스케줄러가 메모리에서 관리하므로 이벤트로 전달 (남은 시간이 부족하면 GAME_TIME_OVER)
+        applicationEventPublisher.publishEvent(new GameTimerSkipEvent(gameId, sec));
     }
 
     /**
@@ -365,9 +479,26 @@ public class GameService {
      * @throws BusinessException 현재 페이즈와 예상 페이즈가 다를 경우 예외 발생
      */
     public void validatePhase(long gameId, GamePhase expectedPhase) {
-        GamePhase currentPhase = gameSeqRepository.getPhase(gameId);
-        if (currentPhase != expectedPhase) {
+        Game game = findById(gameId);
+        synchronized (game) {
+            validatePhase(game, expectedPhase);
+        }
+    }
+
+    /**
+     * 메모리의 게임 페이즈 검증 (호출 측에서 game 모니터를 잡고 호출한다)
+     */
+    private void validatePhase(Game game, GamePhase expectedPhase) {
+        if (game.getPhase() != expectedPhase) {
             throw new BusinessException(INVALID_PHASE);
         }
     }
+
+    private Player findPlayer(Game game, Long memberId) {
+        Player player = game.getPlayers().get(memberId);
+        if (player == null) {
+            throw new BusinessException(PLAYER_NOT_FOUND);
+        }
+        return player;
+    }
 }
@@ -0,0 +1,176 @@
+package com.mafia.domain.game.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 진행 중인 모든 게임의 1초 타이머를 하나의 해시드 타이밍 휠로 구동하는 엔진.
+ * <p>
+ * 1초를 {@link #WHEEL_SIZE}개의 슬롯으로 나누고 gameId 해시로 슬롯을 배정한다. 휠 스레드는 매 슬롯마다 해당 슬롯에 속한
+ * 게임들의 틱 작업을 코어 수만큼의 워커 스레드에 넘긴다. 게임 수와 무관하게 휠 1개 + 워커 N개의 스레드만 사용한다.
+ */
+@Slf4j
+public class GameTickEngine {
+
+    public static final int WHEEL_SIZE = 8; // 1초를 8개 슬롯으로 분할
+    public static final long TICK_MILLIS = 1000L / WHEEL_SIZE; // 슬롯 간격 (125ms)
+
+    private final List<Map<Long, GameTimer>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final ScheduledExecutorService ticker; // 직접 구동하는 경우 null
+    private final Executor workers;
+    private volatile Runnable slotListener = () -> { };
+    private final AtomicBoolean slotListenerRunning = new AtomicBoolean(false);
+    private long cursor = 0; // 휠 스레드에서만 접근
+
+    public GameTickEngine(int workerCount) {
+        this(Executors.newSingleThreadScheduledExecutor(threadFactory("GameWheel-")),
+            Executors.newFixedThreadPool(Math.max(1, workerCount), threadFactory("GameTick-")));
+        ticker.scheduleAtFixedRate(this::advance, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 휠 스레드 없이 생성한다. 호출하는 쪽이 {@link #advance()}로 슬롯을 직접 진행한다. (테스트용)
+     */
+    GameTickEngine(Executor workers) {
+        this(null, workers);
+    }
+
+    private GameTickEngine(ScheduledExecutorService ticker, Executor workers) {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ConcurrentHashMap<>());
+        }
+        this.ticker = ticker;
+        this.workers = workers;
+    }
+
+    /**
+     * 게임의 틱 작업을 휠에 등록한다. 이미 등록된 게임이면 작업을 교체한다.
+     *
+     * @param gameId 게임 ID
+     * @param task   1초마다 실행할 작업
+     */
+    public void register(long gameId, Runnable task) {
+        wheel.get(slotOf(gameId)).put(gameId, new GameTimer(gameId, task));
+    }
+
+    /**
+     * 매 슬롯마다 그 슬롯의 틱보다 먼저 워커에 넘길 작업을 지정한다. (이전 슬롯에서 쌓인 Redis 명령 일괄 전송 등)
+     * <p>
+     * 휠 스레드는 Redis 등 I/O를 기다리지 않는다. 이전 슬롯의 작업이 아직 실행 중이면 이번 슬롯에서는 건너뛴다.
+     */
+    public void onSlotStart(Runnable listener) {
+        this.slotListener = listener;
+    }
+
+    /**
+     * 게임의 틱 작업을 휠에서 제거한다.
+     */
+    public void unregister(long gameId) {
+        wheel.get(slotOf(gameId)).remove(gameId);
+    }
+
+    public boolean isRegistered(long gameId) {
+        return wheel.get(slotOf(gameId)).containsKey(gameId);
+    }
+
+    /**
+     * 휠에 등록된 전체 게임 수
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Long, GameTimer> slot : wheel) {
+            size += slot.size();
+        }
+        return size;
+    }
+
+    public void shutdown() {
+        log.info("[GameTickEngine] 종료 - 등록된 게임 {}개", size());
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        if (workers instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    private static int slotOf(long gameId) {
+        return (int) Math.floorMod(Long.hashCode(gameId) * 0x9E3779B9L, (long) WHEEL_SIZE);
+    }
+
+    /**
+     * 현재 슬롯의 게임들을 워커에 넘기고 커서를 한 칸 전진한다.
+     */
+    void advance() {
+        if (slotListenerRunning.compareAndSet(false, true)) {
+            workers.execute(this::runSlotListener);
+        } else {
+            log.debug("[GameTickEngine] 이전 슬롯 시작 작업이 아직 실행 중이므로 건너뜁니다.");
+        }
+
+        Map<Long, GameTimer> slot = wheel.get((int) (cursor++ % WHEEL_SIZE));
+        for (GameTimer timer : slot.values()) {
+            if (timer.running.compareAndSet(false, true)) {
+                workers.execute(timer);
+            } else {
+                log.warn("[GameTickEngine] 게임 {}의 이전 틱이 아직 실행 중이므로 건너뜁니다.", timer.gameId);
+            }
+        }
+    }
+
+    private void runSlotListener() {
+        try {
+            slotListener.run();
+        } catch (RuntimeException e) {
+            log.error("[GameTickEngine] 슬롯 시작 작업 실패: {}", e.getMessage(), e);
+        } finally {
+            slotListenerRunning.set(false);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 한 게임의 틱 작업. 이전 틱이 끝나지 않았으면 중복 실행하지 않는다.
+     */
+    private static final class GameTimer implements Runnable {
+
+        private final long gameId;
+        private final Runnable task;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private GameTimer(long gameId, Runnable task) {
+            this.gameId = gameId;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("[GameTickEngine] 게임 {} 틱 처리 중 오류: {}", gameId, e.getMessage(), e);
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+}
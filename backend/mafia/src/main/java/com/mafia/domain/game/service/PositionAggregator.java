@@ -0,0 +1,338 @@
+package com.mafia.domain.game.service;
+
+import com.mafia.domain.game.model.dto.GameEndEvent;
+import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GamePhase;
+import com.mafia.domain.game.model.game.Player;
+import com.mafia.domain.game.model.game.Role;
+import com.mafia.domain.game.model.pos.PositionCodec;
+import com.mafia.domain.game.repository.GameRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+/**
+ * 방별로 플레이어의 최신 위치만 모아두었다가 고정 주기마다 한 번에 보내는 집계기.
+ * <p>
+ * 클라이언트가 프레임마다 보내는 위치를 바로 중계하면 방당 메시지 수가 (인원 x 인원 x fps)가 된다. 여기서는 번호별로 마지막
+ * 프레임 하나만 덮어쓰고, 스냅샷 주기마다 지난번 전송 이후 바뀐 플레이어의 프레임만 이어붙여 보낸다. 프레임의 플레이어
+ * 번호는 보낸 사람의 게임 번호로 덮어쓰며, 게임 참가자가 아닌 사람이 보낸 프레임은 버린다.
+ * <p>
+ * 변경분만으로는 밤에 가려져 보내지 않은 프레임이나 멈춰 있는 플레이어를 새로 구독한(재접속한) 사람이 받지 못한다. 그래서
+ * 페이즈가 바뀔 때, 누군가 위치 채널을 구독할 때, 그리고 keyframe-interval-ms 마다 받은 적 있는 모든 번호의 프레임을
+ * 보내는 keyframe을 만든다. 받는 사람별 필터는 keyframe에도 똑같이 적용된다.
+ * <p>
+ * 받는 사람은 게임 상태에 따라 생존 시민 / 생존 좀비 / 사망자로 나누고 분류마다 걸러진 스냅샷을 만들어 각자의 user
+ * destination 으로 보낸다. 사망자의 위치는 보내지 않으며, 밤에는 시민에게 아무것도 보내지 않고 좀비에게는 좀비 위치만
+ * 보낸다. 사망자(관전자)는 생존자 전체를 본다. 게임 상태는 {@link GameRegistry}의 메모리 게임에서 읽고, 다른 노드가
+ * 진행 중인 게임이면 Redis에서 읽은 복사본을 쓴다.
+ */
+@Slf4j
+@Component
+public class PositionAggregator {
+
+    private static final long IDLE_EVICT_MILLIS = 30_000; // 이 시간 동안 위치가 없으면 방 버퍼를 정리
+
+    private static final long RESOLVE_RETRY_MILLIS = 1_000; // 메모리 게임이 아닐 때 다시 찾는 간격
+
+    private static final String DESTINATION_PREFIX = "/user/queue/game/";
+    private static final String DESTINATION_SUFFIX = "/positions";
+
+    private final SimpMessagingTemplate template;
+    private final GameRegistry gameRegistry;
+    private final Map<String, RoomPositions> rooms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private final long keyframeIntervalMillis;
+
+    public PositionAggregator(SimpMessagingTemplate template, GameRegistry gameRegistry,
+        @Value("${game.position.snapshot-hz:20}") int snapshotHz,
+        @Value("${game.position.keyframe-interval-ms:2000}") long keyframeIntervalMillis) {
+        this.template = template;
+        this.gameRegistry = gameRegistry;
+        this.keyframeIntervalMillis = keyframeIntervalMillis;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PositionSnapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = 1000L / Math.max(1, snapshotHz);
+        ticker.scheduleAtFixedRate(this::flushAll, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 검증된 바이너리 프레임을 보낸 사람의 번호 자리에 기록한다. (게임 참가자가 아니면 버린다)
+     */
+    public void update(String roomId, Long memberId, byte[] frame) {
+        RoomPositions room = rooms.computeIfAbsent(roomId, id -> new RoomPositions());
+        Game game = resolve(roomId, room, System.currentTimeMillis());
+        if (game == null) {
+            return;
+        }
+        Integer playerNo;
+        synchronized (game) {
+            playerNo = game.getPlayerNoByMemberId(memberId);
+        }
+        if (playerNo == null) {
+            log.debug("[PositionAggregator] 게임 참가자가 아닌 위치 프레임 (room: {}, member: {})", roomId, memberId);
+            return;
+        }
+        room.put(frame, 0, playerNo);
+    }
+
+    /**
+     * 게임 종료 시 방 버퍼를 바로 정리한다. (roomId == gameId)
+     */
+    @EventListener
+    public void clear(GameEndEvent event) {
+        rooms.remove(String.valueOf(event.getGameId()));
+    }
+
+    /**
+     * 누군가 방의 위치 채널을 구독하면 (입장, 재접속) 다음 주기에 keyframe을 보낸다.
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        String destination = SimpMessageHeaderAccessor.getDestination(event.getMessage().getHeaders());
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)
+            || !destination.endsWith(DESTINATION_SUFFIX)) {
+            return;
+        }
+        String roomId = destination.substring(DESTINATION_PREFIX.length(),
+            destination.length() - DESTINATION_SUFFIX.length());
+        RoomPositions room = rooms.get(roomId);
+        if (room != null) {
+            room.keyframeRequested = true;
+        }
+    }
+
+    private void flushAll() {
+        long now = System.currentTimeMillis();
+        rooms.forEach((roomId, room) -> {
+            try {
+                Game game = resolve(roomId, room, now);
+                GamePhase phase = phaseOf(game);
+                if (phase != room.phase) { // 페이즈가 바뀌면 보이는 대상이 달라진다
+                    room.phase = phase;
+                    room.keyframeRequested = true;
+                }
+                boolean keyframe = room.keyframeRequested || now - room.keyframedAt >= keyframeIntervalMillis;
+                byte[] snapshot = keyframe ? room.keyframe() : room.drain();
+                if (keyframe) {
+                    room.keyframeRequested = false;
+                    room.keyframedAt = now;
+                }
+                if (snapshot != null && game != null) {
+                    publish(roomId, game, snapshot);
+                } else if (game == null && now - room.lastUpdatedAt > IDLE_EVICT_MILLIS) {
+                    rooms.remove(roomId, room);
+                }
+            } catch (RuntimeException e) {
+                log.error("[PositionAggregator] 방 {} 위치 스냅샷 전송 실패: {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    // 이 노드가 진행 중인 게임은 한 번 찾은 메모리 객체를 계속 쓰고, 다른 노드의 게임은 읽기 전용 복사본을 주기마다 다시 읽는다
+    // (수신 스레드와 스냅샷 스레드가 함께 부르며, 동시에 만료되면 두 번 읽을 수 있지만 결과는 같다)
+    private Game resolve(String roomId, RoomPositions room, long now) {
+        if ((room.game == null || !room.live) && now - room.resolvedAt >= RESOLVE_RETRY_MILLIS) {
+            room.resolvedAt = now;
+            try {
+                long gameId = Long.parseLong(roomId);
+                Game live = gameRegistry.find(gameId).orElse(null);
+                room.live = live != null;
+                room.game = live != null ? live : gameRegistry.read(gameId).orElse(null);
+            } catch (NumberFormatException e) {
+                log.debug("[PositionAggregator] 잘못된 방 ID: {}", roomId);
+            }
+        }
+        return room.game;
+    }
+
+    private static GamePhase phaseOf(Game game) {
+        if (game == null) {
+            return null;
+        }
+        synchronized (game) {
+            return game.getPhase();
+        }
+    }
+
+    private void publish(String roomId, Game game, byte[] snapshot) {
+        Map<Audience, byte[]> views = new EnumMap<>(Audience.class);
+        Map<Long, Audience> recipients = new HashMap<>();
+
+        synchronized (game) {
+            boolean night = game.getPhase() == GamePhase.NIGHT_ACTION;
+            for (Audience audience : Audience.values()) {
+                views.put(audience, filter(game, snapshot, audience, night));
+            }
+            game.getPlayers().forEach((memberId, player) -> recipients.put(memberId, Audience.of(player)));
+        }
+
+        String destination = "/queue/game/" + roomId + "/positions";
+        recipients.forEach((memberId, audience) -> {
+            byte[] view = views.get(audience);
+            if (view.length > 0) {
+                template.convertAndSendToUser(String.valueOf(memberId), destination, view);
+            }
+        });
+    }
+
+    // 받는 분류에 보여줄 프레임만 남긴다 (game 모니터 안에서 호출)
+    private static byte[] filter(Game game, byte[] snapshot, Audience audience, boolean night) {
+        byte[] view = new byte[snapshot.length];
+        int write = 0;
+        for (int offset = 0; offset < snapshot.length; offset += PositionCodec.FRAME_SIZE) {
+            Player mover = game.getPlayerByNo(PositionCodec.playerNo(snapshot, offset));
+            if (mover != null && !mover.isDead() && audience.canSee(mover, night)) {
+                System.arraycopy(snapshot, offset, view, write, PositionCodec.FRAME_SIZE);
+                write += PositionCodec.FRAME_SIZE;
+            }
+        }
+        return write == view.length ? view : Arrays.copyOf(view, write);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 위치를 받는 사람의 분류.
+     */
+    private enum Audience {
+        CITIZEN, ZOMBIE, DEAD;
+
+        static Audience of(Player player) {
+            if (player.isDead()) {
+                return DEAD;
+            }
+            return player.getRole() == Role.ZOMBIE ? ZOMBIE : CITIZEN;
+        }
+
+        boolean canSee(Player mover, boolean night) {
+            return switch (this) {
+                case CITIZEN -> !night;
+                case ZOMBIE -> !night || mover.getRole() == Role.ZOMBIE;
+                case DEAD -> true;
+            };
+        }
+    }
+
+    /**
+     * 한 방의 번호별 최신 프레임과 마지막으로 보낸 프레임.
+     */
+    private static final class RoomPositions {
+
+        private static final int INITIAL_SLOTS = 16;
+
+        private byte[] latest = new byte[INITIAL_SLOTS * PositionCodec.FRAME_SIZE];
+        private byte[] sent = new byte[INITIAL_SLOTS * PositionCodec.FRAME_SIZE];
+        private boolean[] dirty = new boolean[INITIAL_SLOTS];
+        private boolean[] present = new boolean[INITIAL_SLOTS]; // 프레임을 한 번이라도 받은 번호
+        private int dirtyCount;
+        private int presentCount;
+        private volatile boolean keyframeRequested = true; // 처음 주기에는 keyframe
+        private long keyframedAt;   // 스냅샷 스레드에서만 접근
+        private GamePhase phase;    // 마지막으로 확인한 페이즈 (스냅샷 스레드에서만 접근)
+        private volatile long lastUpdatedAt = System.currentTimeMillis();
+        private volatile Game game;
+        private volatile boolean live; // game이 이 노드의 메모리 게임인지 (아니면 Redis에서 읽은 복사본)
+        private volatile long resolvedAt;
+
+        synchronized void put(byte[] frame, int offset, int slot) {
+            ensureCapacity(slot);
+            int at = slot * PositionCodec.FRAME_SIZE;
+            System.arraycopy(frame, offset, latest, at, PositionCodec.FRAME_SIZE);
+            latest[at + 1] = (byte) slot; // 클라이언트가 보낸 번호 대신 서버가 찾은 번호
+            if (!present[slot]) {
+                present[slot] = true;
+                presentCount++;
+            }
+
+            // 마지막으로 보낸 프레임과 같으면 (멈춰 있는 플레이어) 다시 보내지 않는다
+            boolean changed = !Arrays.equals(latest, at, at + PositionCodec.FRAME_SIZE,
+                sent, at, at + PositionCodec.FRAME_SIZE);
+            if (changed && !dirty[slot]) {
+                dirty[slot] = true;
+                dirtyCount++;
+            } else if (!changed && dirty[slot]) {
+                dirty[slot] = false;
+                dirtyCount--;
+            }
+            lastUpdatedAt = System.currentTimeMillis();
+        }
+
+        /**
+         * 바뀐 플레이어의 프레임을 이어붙여 반환한다. 바뀐 플레이어가 없으면 null.
+         */
+        synchronized byte[] drain() {
+            if (dirtyCount == 0) {
+                return null;
+            }
+            byte[] snapshot = new byte[dirtyCount * PositionCodec.FRAME_SIZE];
+            int write = 0;
+            for (int slot = 1; slot < dirty.length; slot++) {
+                if (!dirty[slot]) {
+                    continue;
+                }
+                int at = slot * PositionCodec.FRAME_SIZE;
+                System.arraycopy(latest, at, snapshot, write, PositionCodec.FRAME_SIZE);
+                System.arraycopy(latest, at, sent, at, PositionCodec.FRAME_SIZE);
+                write += PositionCodec.FRAME_SIZE;
+                dirty[slot] = false;
+            }
+            dirtyCount = 0;
+            return snapshot;
+        }
+
+        /**
+         * 받은 적 있는 모든 번호의 최신 프레임을 이어붙여 반환한다. 보낸 것으로 기록하므로 대기 중인 변경분도 함께 나간다.
+         * 받은 프레임이 없으면 null.
+         */
+        synchronized byte[] keyframe() {
+            if (presentCount == 0) {
+                return null;
+            }
+            byte[] snapshot = new byte[presentCount * PositionCodec.FRAME_SIZE];
+            int write = 0;
+            for (int slot = 1; slot < present.length; slot++) {
+                if (!present[slot]) {
+                    continue;
+                }
+                int at = slot * PositionCodec.FRAME_SIZE;
+                System.arraycopy(latest, at, snapshot, write, PositionCodec.FRAME_SIZE);
+                System.arraycopy(latest, at, sent, at, PositionCodec.FRAME_SIZE);
+                write += PositionCodec.FRAME_SIZE;
+                dirty[slot] = false;
+            }
+            dirtyCount = 0;
+            return write == snapshot.length ? snapshot : Arrays.copyOf(snapshot, write);
+        }
+
+        private void ensureCapacity(int slot) {
+            if (slot < dirty.length) {
+                return;
+            }
+            int slots = Math.max(slot + 1, dirty.length * 2);
+            latest = Arrays.copyOf(latest, slots * PositionCodec.FRAME_SIZE);
+            sent = Arrays.copyOf(sent, slots * PositionCodec.FRAME_SIZE);
+            dirty = Arrays.copyOf(dirty, slots);
+            present = Arrays.copyOf(present, slots);
+        }
+    }
+}
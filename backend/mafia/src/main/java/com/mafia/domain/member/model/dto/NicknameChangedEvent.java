@@ -0,0 +1,10 @@
+package com.mafia.domain.member.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class NicknameChangedEvent {
+    private final Long memberId;
+}
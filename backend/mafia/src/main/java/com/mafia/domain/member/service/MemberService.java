@@ -6,6 +6,7 @@ import static com.mafia.global.common.model.dto.BaseResponseStatus.NOT_GUEST_ACC
 import com.mafia.domain.game.model.game.GameStatus;
 import com.mafia.domain.game.model.game.Player;
 import com.mafia.domain.game.model.game.Role;
+import com.mafia.domain.member.model.dto.NicknameChangedEvent;
 import com.mafia.domain.member.model.dto.response.MemberResponse;
 import com.mafia.domain.member.model.dto.response.NicknameResponse;
 import com.mafia.domain.member.model.entity.Member;
@@ -14,6 +15,7 @@ import com.mafia.global.common.exception.exception.BusinessException;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     //일정 회원 조회
     public MemberResponse getMemberInfo(Long memberId) {
@@ -37,6 +40,7 @@ public class MemberService {
         Member member = memberRepository.findById(memberId)
             .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
         member.changeNickname(nickname);
+        applicationEventPublisher.publishEvent(new NicknameChangedEvent(memberId));
 
         return new NicknameResponse(nickname);
     }
@@ -2,16 +2,18 @@ package com.mafia.domain.room.controller;
 
 import com.mafia.domain.login.model.dto.AuthenticatedUser;
 import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.model.request.LobbyRoomRequest;
 import com.mafia.domain.room.model.request.RoomRequest;
+import com.mafia.domain.room.model.response.LobbyPageResponse;
 import com.mafia.domain.room.model.response.RoomEnterResponse;
 import com.mafia.domain.room.model.response.RoomIdResponse;
 import com.mafia.domain.room.model.response.RoomResponse;
 import com.mafia.domain.room.service.RoomDbService;
+import com.mafia.domain.room.service.RoomMessageService;
 import com.mafia.global.common.model.dto.BaseResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -30,8 +32,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class RoomController {
 
-    private final SimpMessageSendingOperations messagingTemplate;
     private final RoomDbService roomDbService;
+    private final RoomMessageService roomMessageService;
 
     /**
      * 방 생성 - RDB에 기본 정보 저장 & Redis에 실시간 정보 요청 값으로 설정
@@ -42,19 +44,28 @@ public class RoomController {
         @AuthenticationPrincipal AuthenticatedUser detail
     ) {
         RoomIdResponse response = roomDbService.createRoom(roomRequest, detail.getMemberId());
-        messagingTemplate.convertAndSend("/topic/lobby", roomDbService.getAllRooms());
+        roomMessageService.sendRoomAdded(response.getRoomId());
         return ResponseEntity.ok(new BaseResponse<>(response));
     }
 
     /**
-     * 전체 방 목록 조회 - RDB와 Redis 데이터 조합하여 반환
+     * 방 목록 조회 (이전 클라이언트 호환용) - Redis 로비 요약 뷰의 첫 페이지만 반환, 로비는 /api/room/lobby 사용
      */
+    @Deprecated
     @GetMapping
     public ResponseEntity<BaseResponse<List<RoomResponse>>> getAllRooms() {
         List<RoomResponse> rooms = roomDbService.getAllRooms();
         return ResponseEntity.ok(new BaseResponse<>(rooms));
     }
 
+    /**
+     * 로비 방 목록 페이지 조회 - 조건(비밀번호, 빈 자리, 시작 여부, 정원)과 정렬(생성 순, 인원 순)로 커서 페이징
+     */
+    @GetMapping("/lobby")
+    public ResponseEntity<BaseResponse<LobbyPageResponse>> getLobbyRooms(LobbyRoomRequest request) {
+        return ResponseEntity.ok(new BaseResponse<>(roomDbService.getLobbyPage(request)));
+    }
+
     /**
      * 특정 방의 상세 정보를 조회 - Redis에서 실시간 정보 조회
      */
@@ -84,6 +95,7 @@ public class RoomController {
     public ResponseEntity<BaseResponse<Void>> deleteRoom(
         @PathVariable Long roomId) {
         roomDbService.deleteRoom(roomId);
+        roomMessageService.sendRoomChanged(roomId);
         return ResponseEntity.ok(new BaseResponse<>());
     }
 }
\ No newline at end of file
@@ -34,12 +34,12 @@ public class RoomWebSocketController {
     private final ObjectMapper objectMapper;
 
     /**
-     * 로비 입장 시 방 목록 전송
+     * 로비 입장 시 입장한 사용자에게 방 목록 전송
      */
     @MessageMapping("/lobby/enter")
-    public void handleLobbyEnter() {
+    public void handleLobbyEnter(@AuthenticationPrincipal StompPrincipal detail) {
         log.info("로비 입장 - 방 목록 전송");
-        messageService.sendRoomListToAll();
+        messageService.sendRoomList(detail.getName());
     }
 
     /**
@@ -55,7 +55,7 @@ public class RoomWebSocketController {
 
         roomRedisService.enterRoom(roomId, memberId, message.getPassword());
         messageService.sendRoomUpdate(roomId);
-        messageService.sendRoomListToAll();
+        messageService.sendRoomChanged(roomId);
     }
 
     /**
@@ -75,7 +75,7 @@ public class RoomWebSocketController {
             log.info("방장 퇴장 - 방 번호: {}, hostId: {}", roomId, memberId);
             roomDbService.deleteRoom(roomId);
         }
-        messageService.sendRoomListToAll();
+        messageService.sendRoomChanged(roomId);
     }
 
     /**
@@ -91,7 +91,7 @@ public class RoomWebSocketController {
 
         roomRedisService.kickMember(roomId, memberId, message.getTargetParticipantNo());
         messageService.sendRoomUpdate(roomId);
-        messageService.sendRoomListToAll();
+        messageService.sendRoomChanged(roomId);
     }
 
     /**
@@ -120,8 +120,7 @@ public class RoomWebSocketController {
 
         roomRedisService.startGame(roomId, memberId);
         messageService.sendRoomUpdate(roomId);
-        messageService.sendRoomListToAll();
-        messageService.sendRoomStart(roomId);
+        messageService.sendRoomChanged(roomId);
         roomDbService.isActive(roomId);
 
         boolean isStart = gameService.startGame(roomId);
@@ -0,0 +1,11 @@
+package com.mafia.domain.room.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class RoomLeftEvent {
+    private final Long roomId;
+    private final Long memberId;
+}
@@ -0,0 +1,25 @@
+package com.mafia.domain.room.model.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로비 방 목록 페이지 조회 조건 - 조건을 주지 않은 항목은 거르지 않는다
+ */
+@Data
+@NoArgsConstructor
+public class LobbyRoomRequest {
+
+    public enum Sort {
+        CREATED,  // 생성 순
+        FILL      // 인원이 많이 찬 순 (같으면 최근 생성 순)
+    }
+
+    private String cursor;            // 이전 페이지의 nextCursor (첫 페이지는 null)
+    private Integer size;             // 페이지 크기 (기본 20, 최대 50)
+    private Sort sort = Sort.CREATED;
+    private Boolean hasPassword;      // 비밀번호 방 여부
+    private Boolean openSeats;        // true 이면 빈 자리가 있는 방만
+    private Boolean notStarted;       // true 이면 게임을 시작하지 않은 방만
+    private Integer requiredPlayers;  // 정원
+}
@@ -0,0 +1,13 @@
+package com.mafia.domain.room.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LobbyPageResponse {
+
+    private final List<RoomResponse> rooms;
+    private final String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,24 @@
+package com.mafia.domain.room.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로비 방 목록 변경분 - 전체 목록 대신 바뀐 방 하나만 /topic/lobby 로 보낸다
+ */
+@Getter
+@AllArgsConstructor
+public class LobbyUpdateResponse {
+
+    public enum Type {
+        ADDED, UPDATED, REMOVED
+    }
+
+    private final Type type;
+    private final Long roomId;
+    private final RoomResponse room;  // REMOVED 이면 null
+
+    public static LobbyUpdateResponse removed(Long roomId) {
+        return new LobbyUpdateResponse(Type.REMOVED, roomId, null);
+    }
+}
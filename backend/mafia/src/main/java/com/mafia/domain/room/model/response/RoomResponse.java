@@ -9,5 +9,6 @@ public class RoomResponse {
     private String roomTitle;
     private Integer peopleCnt;
     private Integer requiredPlayers;
+    private boolean hasPassword;
     private boolean isStart = false;
 }
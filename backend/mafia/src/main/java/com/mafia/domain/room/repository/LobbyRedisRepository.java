@@ -0,0 +1,143 @@
+package com.mafia.domain.room.repository;
+
+import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.model.response.RoomResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 로비 방 목록용 요약 뷰 (lobby:rooms 정렬 집합 + 방별 lobby:room:{id} 해시).
+ * <p>
+ * RoomInfo 전체나 RDB를 읽지 않고 로비에 필요한 값(제목, 인원, 정원, 비밀번호 여부, 시작 여부)만 보관한다. 방 정보를
+ * 저장/삭제하는 {@link RoomRedisRepository}의 트랜잭션 안에서 함께 갱신되므로 방 정보와 어긋나지 않는다.
+ * <p>
+ * 정렬 집합은 두 가지다. lobby:rooms 는 roomId(생성 순서), lobby:rooms:fill 은 (채운 비율(%) * 2^32 + roomId)를
+ * 점수로 써서 점수가 방마다 달라지므로 점수 자체를 페이지 커서로 쓸 수 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LobbyRedisRepository {
+
+    private static final String LOBBY_ROOMS_KEY = "lobby:rooms";
+    private static final String LOBBY_FILL_KEY = "lobby:rooms:fill";
+    private static final long ROOM_ID_RANGE = 1L << 32;
+    private static final String SUMMARY_KEY_PREFIX = "lobby:room:";
+
+    private static final String ROOM_ID = "roomId";
+    private static final String TITLE = "roomTitle";
+    private static final String PEOPLE_CNT = "peopleCnt";
+    private static final String REQUIRED_PLAYERS = "requiredPlayers";
+    private static final String HAS_PASSWORD = "hasPassword";
+    private static final String START = "start";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static String getSummaryKey(long roomId) {
+        return SUMMARY_KEY_PREFIX + roomId;
+    }
+
+    /**
+     * 커서(점수, 제외) 다음부터 정렬 순서대로 방 ID와 점수를 최대 count개 조회
+     *
+     * @param byFill true 이면 채운 비율 높은 순, false 이면 생성 순
+     */
+    public List<TypedTuple<String>> scan(boolean byFill, Long cursor, int count) {
+        Set<TypedTuple<String>> tuples = byFill
+            ? redisTemplate.opsForZSet().reverseRangeByScoreWithScores(LOBBY_FILL_KEY,
+                Double.NEGATIVE_INFINITY, cursor == null ? Double.POSITIVE_INFINITY : cursor - 1, 0, count)
+            : redisTemplate.opsForZSet().rangeByScoreWithScores(LOBBY_ROOMS_KEY,
+                cursor == null ? Double.NEGATIVE_INFINITY : cursor + 1, Double.POSITIVE_INFINITY, 0, count);
+        return tuples == null ? List.of() : new ArrayList<>(tuples);
+    }
+
+    /**
+     * 여러 방의 요약 조회 (삭제된 방은 결과에 없음)
+     */
+    public List<RoomResponse> findAllById(Collection<Long> roomIds) {
+        return findSummaries(roomIds);
+    }
+
+    /**
+     * 요약 해시를 한 번의 파이프라인으로 조회 (그 사이 삭제된 방은 제외)
+     */
+    private List<RoomResponse> findSummaries(Collection<?> roomIds) {
+        List<Object> summaries = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Object roomId : roomIds) {
+                connection.hashCommands().hGetAll(bytes(SUMMARY_KEY_PREFIX + roomId));
+            }
+            return null;
+        });
+
+        List<RoomResponse> rooms = new ArrayList<>(summaries.size());
+        for (Object summary : summaries) {
+            if (summary instanceof Map<?, ?> map && !map.isEmpty()) {
+                rooms.add(toResponse(map));
+            }
+        }
+        return rooms;
+    }
+
+    /**
+     * 방 요약 갱신 - RoomRedisRepository의 MULTI 안에서 호출
+     */
+    void writeSummary(RedisConnection connection, RoomInfo roomInfo) {
+        long roomId = roomInfo.getRoomId();
+        Map<byte[], byte[]> summary = new HashMap<>();
+        summary.put(bytes(ROOM_ID), bytes(roomId));
+        summary.put(bytes(TITLE), bytes(roomInfo.getTitle() == null ? "" : roomInfo.getTitle()));
+        summary.put(bytes(PEOPLE_CNT), bytes(roomInfo.getParticipant().size()));
+        summary.put(bytes(REQUIRED_PLAYERS), bytes(roomInfo.getRequiredPlayers()));
+        summary.put(bytes(HAS_PASSWORD), bytes(roomInfo.getPassword() != null));
+        summary.put(bytes(START), bytes(roomInfo.isActive()));
+
+        connection.hashCommands().hMSet(bytes(getSummaryKey(roomId)), summary);
+        connection.zSetCommands().zAdd(bytes(LOBBY_ROOMS_KEY), roomId, bytes(roomId));
+        connection.zSetCommands().zAdd(bytes(LOBBY_FILL_KEY), fillScore(roomInfo), bytes(roomId));
+    }
+
+    /**
+     * 방 요약 삭제 - RoomRedisRepository의 MULTI 안에서 호출
+     */
+    void removeSummary(RedisConnection connection, long roomId) {
+        connection.keyCommands().del(bytes(getSummaryKey(roomId)));
+        connection.zSetCommands().zRem(bytes(LOBBY_ROOMS_KEY), bytes(roomId));
+        connection.zSetCommands().zRem(bytes(LOBBY_FILL_KEY), bytes(roomId));
+    }
+
+    private static long fillScore(RoomInfo roomInfo) {
+        int required = Math.max(1, roomInfo.getRequiredPlayers());
+        long fillPercent = Math.min(100, roomInfo.getParticipant().size() * 100L / required);
+        return fillPercent * ROOM_ID_RANGE + roomInfo.getRoomId();
+    }
+
+    private static RoomResponse toResponse(Map<?, ?> summary) {
+        RoomResponse response = new RoomResponse();
+        response.setRoomId(Long.valueOf(string(summary, ROOM_ID)));
+        response.setRoomTitle(string(summary, TITLE));
+        response.setPeopleCnt(Integer.valueOf(string(summary, PEOPLE_CNT)));
+        response.setRequiredPlayers(Integer.valueOf(string(summary, REQUIRED_PLAYERS)));
+        response.setHasPassword(Boolean.parseBoolean(string(summary, HAS_PASSWORD)));
+        response.setStart(Boolean.parseBoolean(string(summary, START)));
+        return response;
+    }
+
+    private static String string(Map<?, ?> summary, String field) {
+        Object value = summary.get(field);
+        return value == null ? null : value.toString();
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
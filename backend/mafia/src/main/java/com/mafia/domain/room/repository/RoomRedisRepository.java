@@ -2,11 +2,24 @@ package com.mafia.domain.room.repository;
 
 
 import com.mafia.domain.room.model.redis.RoomInfo;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Repository;
 
 @Slf4j
@@ -15,7 +28,11 @@ import org.springframework.stereotype.Repository;
 public class RoomRedisRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final LobbyRedisRepository lobbyRepository;
     private static final String ROOM_KEY_PREFIX = "room:";
+    private static final StringRedisSerializer STRING = StringRedisSerializer.UTF_8;
+    private static final int MAX_UPDATE_ATTEMPTS = 5;  // 충돌 시 최대 시도 횟수
+    private static final long RETRY_BACKOFF_MILLIS = 5; // 재시도 대기 상한의 기준 (시도마다 2배, 0 ~ 상한 사이 무작위)
 
     /**
      * Redis key 생성
@@ -24,6 +41,13 @@ public class RoomRedisRepository {
         return ROOM_KEY_PREFIX + roomId;
     }
 
+    /**
+     * 멤버 인덱스 key - 사용자가 참여 중인 roomId (room:* 패턴과 겹치지 않게)
+     */
+    private static byte[] getMemberRoomKey(long memberId) {
+        return STRING.serialize("member:" + memberId + ":room");
+    }
+
     /**
      * 모든 방 정보 조회
      */
@@ -31,6 +55,23 @@ public class RoomRedisRepository {
         return redisTemplate.keys(ROOM_KEY_PREFIX + "*");  // 모든 방 키 가져오기
     }
 
+    /**
+     * 저장된 방 ID를 SCAN으로 조회 (KEYS와 달리 Redis를 오래 막지 않는다)
+     */
+    public List<Long> scanRoomIds() {
+        List<Long> roomIds = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(ROOM_KEY_PREFIX + "*").count(500).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            keys.forEachRemaining(key -> {
+                String id = key.substring(ROOM_KEY_PREFIX.length());
+                if (!id.isEmpty() && id.chars().allMatch(Character::isDigit)) {
+                    roomIds.add(Long.valueOf(id));
+                }
+            });
+        }
+        return roomIds;
+    }
+
     /**
      * roomId로 방 정보 조회
      */
@@ -39,24 +80,161 @@ public class RoomRedisRepository {
     }
 
     /**
-     * 방 정보 저장
+     * 방 정보 저장 - 현재 참가자의 멤버 인덱스와 로비 요약을 같은 트랜잭션(MULTI)에서 함께 갱신 (방 생성용)
      */
     public void save(Long roomId, RoomInfo roomInfo) {
-        redisTemplate.opsForValue().set(getRoomKey(roomId), roomInfo);
+        byte[] roomKey = STRING.serialize(getRoomKey(roomId));
+
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.multi();
+            queueWrite(connection, roomKey, roomInfo, roomInfo.getParticipant().keySet(), List.of());
+            return connection.exec();
+        });
+    }
+
+    /**
+     * 방 정보 조회 -> 변경 -> 저장을 낙관적 잠금(WATCH/MULTI)으로 처리
+     * <p>
+     * 방 키를 WATCH 한 뒤 읽은 상태에 mutation을 적용하고, 그 사이 다른 요청이 방을 바꿔 EXEC가 취소되면 최신 상태로 다시
+     * 시도한다. mutation은 재시도될 수 있으므로 RoomInfo 변경 외의 부수 효과가 없어야 하며, 예외를 던지면 저장하지 않는다.
+     * 멤버 인덱스는 변경 전후 참가자를 비교해 들어온 참가자만 쓰고 나간 참가자만 지운다. 충돌한 요청들이 같은 순간에 다시
+     * 부딪치지 않도록 재시도 전에 무작위로 조금씩 늘어나는 시간만큼 기다린다.
+     *
+     * @return 저장된 방 정보, 방이 없으면 null
+     * @throws OptimisticLockingFailureException 재시도 횟수 안에 저장하지 못한 경우
+     */
+    public RoomInfo update(Long roomId, Consumer<RoomInfo> mutation) {
+        return update(roomId, null, (roomInfo, joinedRoomId) -> mutation.accept(roomInfo));
+    }
+
+    /**
+     * 방 정보 변경 - memberId의 멤버 인덱스 키도 같은 WATCH에 넣고, 그 사용자가 참여 중인 방 ID(없으면 null)를 mutation에
+     * 넘긴다. 확인 후 EXEC 전에 그 사용자가 다른 방에 들어가면 EXEC가 취소되어 최신 상태로 다시 확인한다. (방 입장용)
+     * <p>
+     * 인덱스 키는 사용자마다 따로 있으므로 다른 사용자의 입장/퇴장으로는 EXEC가 취소되지 않는다.
+     */
+    public RoomInfo update(Long roomId, Long memberId, BiConsumer<RoomInfo, Long> mutation) {
+        byte[] roomKey = STRING.serialize(getRoomKey(roomId));
+        RedisSerializer<Object> serializer = valueSerializer();
+
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            if (attempt > 1) {
+                backoff(attempt);
+            }
+            UpdateResult result = redisTemplate.execute((RedisCallback<UpdateResult>) connection -> {
+                if (memberId == null) {
+                    connection.watch(roomKey);
+                } else {
+                    connection.watch(roomKey, getMemberRoomKey(memberId));
+                }
+                RoomInfo roomInfo;
+                try {
+                    roomInfo = (RoomInfo) serializer.deserialize(connection.stringCommands().get(roomKey));
+                    if (roomInfo == null) {
+                        connection.unwatch();
+                        return new UpdateResult(null, true);
+                    }
+                    Long joinedRoomId = memberId == null ? null : findRoomIdByMember(connection, memberId);
+                    Set<Long> left = new HashSet<>(roomInfo.getParticipant().keySet());
+                    mutation.accept(roomInfo, joinedRoomId);
+                    Set<Long> joined = new HashSet<>(roomInfo.getParticipant().keySet());
+                    joined.removeAll(left);
+                    left.removeAll(roomInfo.getParticipant().keySet());
+
+                    connection.multi();
+                    queueWrite(connection, roomKey, roomInfo, joined, left);
+                } catch (RuntimeException e) {
+                    connection.unwatch();
+                    throw e;
+                }
+                List<Object> exec = connection.exec();
+                return new UpdateResult(roomInfo, exec != null && !exec.isEmpty());
+            });
+
+            if (result != null && result.committed()) {
+                return result.roomInfo();
+            }
+            log.debug("방 정보 변경 충돌 - roomId {}, attempt {}", roomId, attempt);
+        }
+        throw new OptimisticLockingFailureException("방 정보 변경 충돌 - roomId " + roomId);
+    }
+
+    // 0 ~ RETRY_BACKOFF_MILLIS * 2^(attempt - 2) ms 사이 무작위 대기 (full jitter)
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong((RETRY_BACKOFF_MILLIS << (attempt - 2)) + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OptimisticLockingFailureException("방 정보 변경 재시도 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 저장된 방 정보로 멤버 인덱스와 로비 요약을 다시 만든다 - 인덱스가 생기기 전에 저장된 방을 채우는 일회성 백필용
+     * <p>
+     * 방 키를 WATCH 하므로 그 사이 방이 바뀌면 EXEC가 취소되지만, 바뀐 방은 저장하면서 인덱스도 함께 갱신되므로 다시
+     * 시도하지 않는다.
+     */
+    public void reindex(Long roomId) {
+        byte[] roomKey = STRING.serialize(getRoomKey(roomId));
+        RedisSerializer<Object> serializer = valueSerializer();
+
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.watch(roomKey);
+            RoomInfo roomInfo = (RoomInfo) serializer.deserialize(connection.stringCommands().get(roomKey));
+            if (roomInfo == null) {
+                connection.unwatch();
+                return null;
+            }
+            connection.multi();
+            queueMemberIndex(connection, roomInfo, roomInfo.getParticipant().keySet());
+            lobbyRepository.writeSummary(connection, roomInfo);
+            return connection.exec();
+        });
+    }
+
+    /**
+     * 방 정보 SET + 들어온/나간 참가자의 멤버 인덱스 + 로비 요약 갱신 명령을 MULTI에 쌓는다
+     */
+    private void queueWrite(RedisConnection connection, byte[] roomKey, RoomInfo roomInfo,
+        Collection<Long> joinedMembers, Collection<Long> leftMembers) {
+        connection.stringCommands().set(roomKey, valueSerializer().serialize(roomInfo));
+        queueMemberIndex(connection, roomInfo, joinedMembers);
+        for (Long memberId : leftMembers) {
+            connection.keyCommands().del(getMemberRoomKey(memberId));
+        }
+        lobbyRepository.writeSummary(connection, roomInfo);
+    }
+
+    private void queueMemberIndex(RedisConnection connection, RoomInfo roomInfo, Collection<Long> memberIds) {
+        byte[] roomIdValue = STRING.serialize(String.valueOf(roomInfo.getRoomId()));
+        for (Long memberId : memberIds) {
+            connection.stringCommands().set(getMemberRoomKey(memberId), roomIdValue);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+    }
+
+    private record UpdateResult(RoomInfo roomInfo, boolean committed) {
     }
 
     /**
-     * 모든 방의 참가자 수 조회
+     * 사용자가 참여 중인 방 ID 조회 (없으면 null) - 인덱스가 가리키는 방이 이미 없으면 참여 중이 아닌 것으로 본다
      */
-    public HashMap<Long, Integer> getRoomPlayerCounts() {
-        HashMap<Long, Integer> result = new HashMap<>();
-        Set<String> roomKeys = getAllRooms();
+    public Long findRoomIdByMember(Long memberId) {
+        return redisTemplate.execute((RedisCallback<Long>) connection -> findRoomIdByMember(connection, memberId));
+    }
 
-        for (String key : roomKeys) {
-            RoomInfo roomInfo = (RoomInfo) redisTemplate.opsForValue().get(key);
-            result.put(roomInfo.getRoomId(), roomInfo.getParticipant().size());
+    private Long findRoomIdByMember(RedisConnection connection, Long memberId) {
+        String roomId = STRING.deserialize(connection.stringCommands().get(getMemberRoomKey(memberId)));
+        if (roomId == null) {
+            return null;
         }
-        return result;
+        Long id = Long.valueOf(roomId);
+        return Boolean.TRUE.equals(connection.keyCommands().exists(STRING.serialize(getRoomKey(id)))) ? id : null;
     }
 
     /**
@@ -64,7 +242,20 @@ public class RoomRedisRepository {
      */
     public void delete(Long roomId) {
         log.info("방 삭제 시도 - roomId {}", roomId);
-        redisTemplate.delete(getRoomKey(roomId));
+        RoomInfo roomInfo = findById(roomId);
+        byte[] roomKey = STRING.serialize(getRoomKey(roomId));
+
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.multi();
+            connection.keyCommands().del(roomKey);
+            if (roomInfo != null) {
+                for (Long memberId : roomInfo.getParticipant().keySet()) {
+                    connection.keyCommands().del(getMemberRoomKey(memberId));
+                }
+            }
+            lobbyRepository.removeSummary(connection, roomId);
+            return connection.exec();
+        });
         log.info("방 삭제 완료 - roomId {}", roomId);
     }
 }
@@ -0,0 +1,142 @@
+package com.mafia.domain.room.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mafia.domain.room.model.response.LobbyUpdateResponse;
+import com.mafia.domain.room.model.response.LobbyUpdateResponse.Type;
+import com.mafia.domain.room.model.response.RoomResponse;
+import com.mafia.domain.room.repository.LobbyRedisRepository;
+import com.mafia.global.common.config.StompBrokerProperties;
+import com.mafia.global.common.service.StompDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로비 변경분을 짧은 주기로 모아서 한 번에 보내는 발행기.
+ * <p>
+ * 방 변경 시 바로 보내지 않고 바뀐 roomId만 표시해 두었다가, 주기(lobby.broadcast.window-ms)마다 그 사이 바뀐 방들의 최신
+ * 요약을 한 번에 읽어 /topic/lobby 로 변경분 목록 하나를 보낸다. 같은 방이 여러 번 바뀌어도 마지막 상태 하나만 나간다.
+ * <p>
+ * simple 브로커는 이 노드에 연결된 구독자에게만 보내므로, 변경분을 lobby:updates 채널로 발행하고 모든 노드(자신 포함)가
+ * 받아서 자신의 /topic/lobby 로 보낸다. relay 모드에서는 브로커가 모든 노드의 구독자에게 전달하므로 바로 보낸다.
+ */
+@Slf4j
+@Component
+public class LobbyPublisher implements MessageListener {
+
+    private static final String UPDATES_CHANNEL = "lobby:updates"; // game-* / room-* 패턴과 겹치지 않게
+    private static final String LOBBY_TOPIC = "lobby"; // /topic/lobby
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final LobbyRedisRepository lobbyRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final StompDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+    private final boolean relay;
+    private final Map<Long, Type> pending = new ConcurrentHashMap<>(); // roomId -> ADDED / UPDATED
+    private final AtomicLong requestedInWindow = new AtomicLong();
+    private final Counter requested;
+    private final Counter broadcasts;
+    private final Counter saved;
+
+    public LobbyPublisher(SimpMessageSendingOperations messagingTemplate,
+        LobbyRedisRepository lobbyRepository, MeterRegistry meterRegistry, StringRedisTemplate redisTemplate,
+        RedisMessageListenerContainer container, StompDispatcher dispatcher, ObjectMapper objectMapper,
+        StompBrokerProperties brokerProperties) {
+        this.messagingTemplate = messagingTemplate;
+        this.lobbyRepository = lobbyRepository;
+        this.redisTemplate = redisTemplate;
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+        this.relay = brokerProperties.isRelay();
+        if (!relay) {
+            container.addMessageListener(this, new ChannelTopic(UPDATES_CHANNEL));
+        }
+        this.requested = Counter.builder("lobby.broadcast.requested")
+            .description("로비 전송 요청(방 변경) 수").register(meterRegistry);
+        this.broadcasts = Counter.builder("lobby.broadcast.sent")
+            .description("실제로 보낸 로비 메시지 수").register(meterRegistry);
+        this.saved = Counter.builder("lobby.broadcast.saved")
+            .description("모아 보내서 줄어든 로비 메시지 수").register(meterRegistry);
+    }
+
+    public void roomAdded(Long roomId) {
+        mark(roomId, Type.ADDED);
+    }
+
+    public void roomChanged(Long roomId) {
+        mark(roomId, Type.UPDATED);
+    }
+
+    private void mark(Long roomId, Type type) {
+        // 같은 주기 안에 생성된 방은 이후 변경이 있어도 ADDED 로 보낸다
+        pending.merge(roomId, type, (current, next) -> current == Type.ADDED ? current : next);
+        requestedInWindow.incrementAndGet();
+        requested.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${lobby.broadcast.window-ms:150}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, Type> changes = new HashMap<>();
+        for (Long roomId : pending.keySet()) {
+            Type type = pending.remove(roomId);
+            if (type != null) {
+                changes.put(roomId, type);
+            }
+        }
+        long requestCount = requestedInWindow.getAndSet(0);
+
+        Map<Long, RoomResponse> rooms = new HashMap<>();
+        for (RoomResponse room : lobbyRepository.findAllById(changes.keySet())) {
+            rooms.put(room.getRoomId(), room);
+        }
+
+        List<LobbyUpdateResponse> updates = new ArrayList<>(changes.size());
+        changes.forEach((roomId, type) -> {
+            RoomResponse room = rooms.get(roomId);
+            updates.add(room == null ? LobbyUpdateResponse.removed(roomId)
+                : new LobbyUpdateResponse(type, roomId, room));
+        });
+
+        if (relay) {
+            messagingTemplate.convertAndSend("/topic/" + LOBBY_TOPIC, updates);
+        } else {
+            try {
+                redisTemplate.convertAndSend(UPDATES_CHANNEL, objectMapper.writeValueAsString(updates));
+            } catch (JsonProcessingException e) {
+                log.error("[LobbyPublisher] 로비 변경분 변환 실패: {}", e.getMessage());
+                return;
+            }
+        }
+        broadcasts.increment();
+        saved.increment(Math.max(0, requestCount - 1));
+        log.debug("[LobbyPublisher] 로비 변경 전송 - 방 {}개, 요청 {}건", updates.size(), requestCount);
+    }
+
+    /**
+     * 어느 노드(자신 포함)가 발행한 로비 변경분을 이 노드의 구독자에게 보낸다. (Redis 리스너 스레드 대신 디스패처가 전송)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        dispatcher.dispatch(LOBBY_TOPIC, new String(message.getBody(), StandardCharsets.UTF_8), null);
+    }
+}
@@ -9,13 +9,14 @@ import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_TITLE_LI
 
 import com.mafia.domain.room.model.entity.Room;
 import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.model.request.LobbyRoomRequest;
 import com.mafia.domain.room.model.request.RoomRequest;
+import com.mafia.domain.room.model.response.LobbyPageResponse;
 import com.mafia.domain.room.model.response.RoomEnterResponse;
 import com.mafia.domain.room.model.response.RoomIdResponse;
 import com.mafia.domain.room.model.response.RoomResponse;
 import com.mafia.domain.room.repository.RoomRepository;
 import com.mafia.global.common.exception.exception.BusinessException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map.Entry;
@@ -89,25 +90,24 @@ public class RoomDbService {
     }
 
     /**
-     * 전체 게임방 목록 조회 - RDB의 방 정보와 Redis의 실시간 인원 정보를 조합하여 반환
+     * 게임방 목록 조회 (이전 클라이언트 호환용) - 전체 목록 대신 로비 첫 페이지(생성 순, 최대 페이지 크기)만 반환
+     *
+     * @deprecated 로비는 {@link #getLobbyPage}로 커서 페이징한다
      */
+    @Deprecated
+    @Transactional(readOnly = true)
     public List<RoomResponse> getAllRooms() {
-        List<Room> rooms = DbRoomRepository.findAll();
-        HashMap<Long, Integer> allRoomInfo = roomRedisService.getRoomPlayerCounts();
-        List<RoomResponse> roomList = new ArrayList<>();
-
-        // 각 방의 게임 목록 조회 (제목, 방ID, 현재 인원)
-        for (Room room : rooms) {
-            RoomResponse roomResponse = new RoomResponse();
-            roomResponse.setRoomId(room.getRoomId());
-            roomResponse.setRoomTitle(room.getTitle());
-            roomResponse.setPeopleCnt(allRoomInfo.getOrDefault(room.getRoomId(), 0));
-            roomResponse.setRequiredPlayers(room.getRequiredPlayers());
-            roomResponse.setStart(false);
-            roomList.add(roomResponse);
-        }
+        LobbyRoomRequest request = new LobbyRoomRequest();
+        request.setSize(Integer.MAX_VALUE); // 최대 페이지 크기로 줄어든다
+        return roomRedisService.getLobbyPage(request).getRooms();
+    }
 
-        return roomList;
+    /**
+     * 로비 방 목록 페이지 조회 - Redis 로비 요약 뷰에서 조건과 정렬에 맞게 커서 페이징
+     */
+    @Transactional(readOnly = true)
+    public LobbyPageResponse getLobbyPage(LobbyRoomRequest request) {
+        return roomRedisService.getLobbyPage(request);
     }
 
     /**
@@ -161,11 +161,8 @@ public class RoomDbService {
     public RoomEnterResponse searchParticipantNo(Long roomId, Long memberId) {
         RoomInfo roomInfo = roomRedisService.findById(roomId);
 
-        int participantNo = roomInfo.getMemberMapping().entrySet().stream()
-            .filter(entry -> entry.getValue().equals(memberId))
-            .map(Entry::getKey)
-            .findFirst()
-            .orElse(0);
+        Integer partNo = roomInfo.getpartNoByMemberId(memberId);
+        int participantNo = partNo == null ? 0 : partNo;
 
         return RoomEnterResponse.builder()
             .myParticipantNo(participantNo)
@@ -0,0 +1,43 @@
+package com.mafia.domain.room.service;
+
+import com.mafia.domain.room.repository.RoomRedisRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멤버 인덱스(member:{id}:room)와 로비 요약(lobby:rooms, lobby:rooms:fill, lobby:room:{id})이 생기기 전에 저장된
+ * 방을 시작 시 한 번 채운다. 채운 뒤에는 이전 형식의 멤버 인덱스 해시(member:room)를 지운다.
+ * <p>
+ * 완료 표시 키가 있으면 건너뛰며, 표시는 모든 방을 처리한 뒤에 남기므로 중간에 실패하면 다음 시작 때 다시 실행된다.
+ * 여러 노드가 동시에 실행해도 같은 값을 쓰므로 결과는 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomIndexBackfill implements ApplicationRunner {
+
+    private static final String DONE_KEY = "migration:room-index:v3"; // room:* 패턴과 겹치지 않게 (v3: 사용자별 멤버 인덱스)
+    private static final String LEGACY_MEMBER_ROOM_KEY = "member:room";
+
+    private final RoomRedisRepository roomRedisRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) {
+            return;
+        }
+        List<Long> roomIds = roomRedisRepository.scanRoomIds();
+        for (Long roomId : roomIds) {
+            roomRedisRepository.reindex(roomId);
+        }
+        redisTemplate.delete(LEGACY_MEMBER_ROOM_KEY);
+        redisTemplate.opsForValue().set(DONE_KEY, String.valueOf(System.currentTimeMillis()));
+        log.info("[RoomIndexBackfill] 방 {}개 인덱스 백필 완료", roomIds.size());
+    }
+}
@@ -2,10 +2,10 @@ package com.mafia.domain.room.service;
 
 import com.mafia.domain.room.model.redis.Participant;
 import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.model.request.LobbyRoomRequest;
+import com.mafia.domain.room.model.response.LobbyPageResponse;
 import com.mafia.domain.room.model.response.RoomParticipantResponse;
-import com.mafia.domain.room.model.response.RoomResponse;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import lombok.RequiredArgsConstructor;
@@ -23,22 +23,32 @@ public class RoomMessageService {
 
     private final SimpMessageSendingOperations messagingTemplate;
     private final RoomRedisService roomRedisService;
-    private final RoomDbService roomDbService;
+    private final LobbyPublisher lobbyPublisher;
 
     /**
-     * 로비의 전체 방 목록 전송 - 각 방의 현재 인원수 정보를 포함
+     * 로비에 들어온 사용자에게만 방 목록 첫 페이지 전송 - 다음 페이지는 nextCursor로 /api/room/lobby 에서, 이후 변경분은
+     * /topic/lobby 로 받는다
      */
-    public void sendRoomListToAll() {
-        HashMap<Long, Integer> roomPlayerCounts = roomRedisService.getRoomPlayerCounts();
-        List<RoomResponse> rooms = roomDbService.getAllRooms();
+    public void sendRoomList(String userName) {
+        LobbyPageResponse page = roomRedisService.getLobbyPage(new LobbyRoomRequest());
 
-        // Redis 데이터로 현재 인원 업데이트
-        for (RoomResponse room : rooms) {
-            room.setPeopleCnt(roomPlayerCounts.getOrDefault(room.getRoomId(), 0));
-        }
+        log.info("로비 방 목록 전송 - 첫 페이지 방 개수: {}\n", page.getRooms().size());
+        messagingTemplate.convertAndSendToUser(userName, "/queue/lobby", page);
+    }
+
+    /**
+     * 새로 만든 방을 로비에 알림 (LobbyPublisher가 모아서 전송)
+     */
+    public void sendRoomAdded(Long roomId) {
+        lobbyPublisher.roomAdded(roomId);
+    }
 
-        log.info("로비 방 목록 전송 - 전체 방 개수: {}\n", rooms.size());
-        messagingTemplate.convertAndSend("/topic/lobby", rooms);
+    /**
+     * 방 인원/시작 여부 변경 또는 삭제를 로비에 알림 (LobbyPublisher가 모아서 전송)
+     */
+    public void sendRoomChanged(Long roomId) {
+        log.info("로비 방 변경 - roomId: {}", roomId);
+        lobbyPublisher.roomChanged(roomId);
     }
 
     /**
@@ -68,20 +78,4 @@ public class RoomMessageService {
 
         messagingTemplate.convertAndSend("/topic/room/" + roomId, participantInfo);
     }
-
-    public void sendRoomStart(Long roomId) {
-        List<RoomResponse> rooms = roomDbService.getAllRooms();
-
-        for (RoomResponse room : rooms) {
-            if (room.getRoomId().equals(roomId)) {
-                room.setStart(true);
-            }
-        }
-
-        log.info("게임 시작 알림 - roomId: {}, 게임 진행중인 방 개수: {}\n",
-            roomId,
-            rooms.stream().filter(RoomResponse::isStart).count());
-
-        messagingTemplate.convertAndSend("/topic/lobby", rooms);
-    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.mafia.domain.room.service;
 
+import static com.mafia.global.common.model.dto.BaseResponseStatus.ALREADY_HAS_ROOM;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.BAD_REQUEST;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.GAME_ALREADY_STARTED;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.HOST_CANNOT_READY;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.INVALID_PASSWORD;
@@ -9,25 +11,38 @@ import static com.mafia.global.common.model.dto.BaseResponseStatus.PLAYER_NOT_FO
 import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_CREATE_FAIL;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_FULL;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_NOT_FOUND;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_UPDATE_CONFLICT;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.UNAUTHORIZED_ACCESS;
 import static com.mafia.global.common.model.dto.BaseResponseStatus.UNAUTHORIZED_HOST_ACTION;
 
 import com.mafia.domain.game.model.game.GameOption;
 import com.mafia.domain.member.model.dto.response.MemberResponse;
 import com.mafia.domain.member.service.MemberService;
+import com.mafia.domain.room.model.dto.RoomLeftEvent;
 import com.mafia.domain.room.model.entity.Room;
 import com.mafia.domain.room.model.redis.Participant;
 import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.model.request.LobbyRoomRequest;
+import com.mafia.domain.room.model.response.LobbyPageResponse;
+import com.mafia.domain.room.model.response.RoomResponse;
+import com.mafia.domain.room.repository.LobbyRedisRepository;
 import com.mafia.domain.room.repository.RoomRedisRepository;
 import com.mafia.domain.room.repository.RoomRepository;
 import com.mafia.global.common.exception.exception.BusinessException;
-import com.mafia.global.common.service.RoomSubscription;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,9 +57,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class RoomRedisService {
 
     private final RoomRedisRepository redisRepository;
+    private final LobbyRedisRepository lobbyRepository;
     private final RoomRepository DbRoomRepository;
     private final MemberService memberService;
-    private final RoomSubscription subscription;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private static final int LOBBY_PAGE_SIZE = 20;
+    private static final int LOBBY_MAX_PAGE_SIZE = 50;
+    private static final int LOBBY_SCAN_LIMIT = 200;  // 한 요청에서 훑는 최대 방 수
 
     /**
      * Redis에서 방 정보 조회
@@ -68,7 +88,6 @@ public class RoomRedisService {
             roomInfo.getParticipant().put(hostId, host);  // 참가자 맵:    방장 memberId - 유저 정보
             roomInfo.getMemberMapping().put(1, hostId);   // 멤버 매핑 맵: 참가자 번호 - 방장 memberId
 
-            subscription.subscribe(roomId);
             redisRepository.save(roomId, roomInfo);
         } catch (Exception e) {
             log.error("Redis 방 생성 실패: roomId={}, error={}", roomId, e.getMessage());
@@ -95,99 +114,132 @@ public class RoomRedisService {
             return;
         }
 
-        if (roomInfo.getPassword() != null && !roomInfo.getPassword().equals(password)) {
-            throw new BusinessException(INVALID_PASSWORD);
-        }
+        // 참가자 정보 생성 (회원 ID, 닉네임) - 재시도 밖에서 한 번만 조회
+        MemberResponse memberInfo = memberService.getMemberInfo(memberId);
 
-        if (roomInfo.getParticipant().size() >= roomInfo.getRequiredPlayers()) {
-            throw new BusinessException(ROOM_FULL);
-        }
+        // 정원 확인과 참가자 번호 배정은 최신 방 상태 기준으로 (동시 입장 시 같은 번호/정원 초과 방지)
+        // 다른 방 참여 여부도 같은 WATCH 안에서 다시 확인 (위 확인 후 다른 방에 동시에 입장하는 경우)
+        RoomInfo updated = updateRoom(roomId, memberId, (room, joinedRoomId) -> {
+            validateGameNotStarted(room);
 
-        int newParticipantNo = 2;  // 1번은 방장
-        while (roomInfo.getMemberMapping().containsKey(newParticipantNo)) {
-            newParticipantNo++;
-        }  // 새로운 참가자 번호 할당 (가장 작은 빈 번호)
+            if (room.getParticipant().containsKey(memberId)) {
+                return;
+            }
 
-        // 참가자 정보 생성 (회원 ID, 닉네임)
-        MemberResponse memberInfo = memberService.getMemberInfo(memberId);
-        Participant participant = new Participant(memberId, memberInfo.getNickname());
+            if (joinedRoomId != null && !joinedRoomId.equals(roomId)) {
+                throw new BusinessException(ALREADY_HAS_ROOM);
+            }
+
+            if (room.getPassword() != null && !room.getPassword().equals(password)) {
+                throw new BusinessException(INVALID_PASSWORD);
+            }
 
-        // 참가자 맵과 멤버 매핑 맵에 추가
-        roomInfo.getParticipant().put(memberId, participant);
-        roomInfo.getMemberMapping().put(newParticipantNo, memberId);
+            if (room.getParticipant().size() >= room.getRequiredPlayers()) {
+                throw new BusinessException(ROOM_FULL);
+            }
+
+            int newParticipantNo = 2;  // 1번은 방장
+            while (room.getMemberMapping().containsKey(newParticipantNo)) {
+                newParticipantNo++;
+            }  // 새로운 참가자 번호 할당 (가장 작은 빈 번호)
+
+            // 참가자 맵과 멤버 매핑 맵에 추가
+            room.getParticipant().put(memberId, new Participant(memberId, memberInfo.getNickname()));
+            room.getMemberMapping().put(newParticipantNo, memberId);
+        });
 
-        redisRepository.save(roomId, roomInfo);
         log.info("방 입장 완료 - roomId: {}, title: {}, participantNo: {}, memberId: {}, nickname: {}\n",
-            roomId, roomInfo.getTitle(), newParticipantNo, memberId, participant.getNickName());
+            roomId, updated.getTitle(), updated.getpartNoByMemberId(memberId), memberId,
+            memberInfo.getNickname());
     }
 
     /**
      * 방 퇴장 처리 - 방장 퇴장시 방 삭제, 일반 유저는 참가자 목록에서 제거
      */
     public void leaveRoom(Long roomId, Long memberId) {
-        RoomInfo roomInfo = findById(roomId);
-        int participantNo = roomInfo.getpartNoByMemberId(memberId);
         log.info("방 퇴장 요청 - roomId: {}, memberId: {}", roomId, memberId);
 
-        validateGameNotStarted(roomInfo);  // 게임 진행 중 여부 확인
+        updateRoom(roomId, room -> {
+            validateGameNotStarted(room);  // 게임 진행 중 여부 확인
 
-        // 참가자 맵과 멤버 매핑 맵에서 제거
-        roomInfo.getParticipant().remove(memberId);
-        roomInfo.getMemberMapping().remove(participantNo);
-        redisRepository.save(roomId, roomInfo);
+            removeParticipant(room, memberId);
+        });
+        applicationEventPublisher.publishEvent(new RoomLeftEvent(roomId, memberId)); // 채팅 권한 회수
 
-        log.info("방 퇴장 완료 - roomId: {}, participantNo: {}\n", roomId, participantNo);
+        log.info("방 퇴장 완료 - roomId: {}, memberId: {}\n", roomId, memberId);
     }
 
     /**
      * 강제 퇴장 처리 - 방장 권한 확인 후 강제 퇴장 진행
      */
     public void kickMember(Long roomId, Long hostMemberId, Integer targetParticipantNo) {
-        RoomInfo roomInfo = findById(roomId);
         log.info("강제 퇴장 시도: roomId={}, hostId={}, Target - participantNo={}\n",
             roomId, hostMemberId, targetParticipantNo);
 
-        validateGameNotStarted(roomInfo);  // 게임 진행 중 여부 확인
-
         if (!isHost(roomId, hostMemberId)) {
             throw new BusinessException(UNAUTHORIZED_HOST_ACTION);
         }
 
-        leaveRoom(roomId, roomInfo.getMemberMapping().get(targetParticipantNo));
+        // 대상은 최신 방 상태의 참가자 번호로 찾는다 (그 사이 나가고 다른 사람이 같은 번호를 받은 경우 포함)
+        AtomicReference<Long> target = new AtomicReference<>();
+        updateRoom(roomId, room -> {
+            validateGameNotStarted(room);  // 게임 진행 중 여부 확인
+
+            Long targetMemberId = room.getMemberMapping().get(targetParticipantNo);
+            if (targetMemberId == null) {
+                throw new BusinessException(PLAYER_NOT_FOUND);
+            }
+            removeParticipant(room, targetMemberId);
+            target.set(targetMemberId);
+        });
+        applicationEventPublisher.publishEvent(new RoomLeftEvent(roomId, target.get())); // 채팅 권한 회수
+
+        log.info("강제 퇴장 완료 - roomId: {}, participantNo: {}, memberId: {}\n",
+            roomId, targetParticipantNo, target.get());
+    }
+
+    /**
+     * 참가자 맵과 멤버 매핑 맵에서 제거
+     */
+    private static void removeParticipant(RoomInfo room, Long memberId) {
+        Integer participantNo = room.getpartNoByMemberId(memberId);
+        room.getParticipant().remove(memberId);
+        if (participantNo != null) {
+            room.getMemberMapping().remove(participantNo);
+        }
     }
 
     /**
      * 게임 준비 상태 토글 - 방장 제외 참가자의 준비 상태 변경
      */
     public void toggleReady(Long roomId, Long memberId) {
-        RoomInfo roomInfo = findById(roomId);
-        int participantNo = roomInfo.getpartNoByMemberId(memberId);
-        log.info("준비 상태 변경 - roomId: {}, memberId: {}, participantNo: {}", roomId, memberId,
-            participantNo);
-
-        validateGameNotStarted(roomInfo);  // 게임 진행 중 여부 확인
+        log.info("준비 상태 변경 - roomId: {}, memberId: {}", roomId, memberId);
 
         if (isHost(roomId, memberId)) {
             throw new BusinessException(HOST_CANNOT_READY);
         }
 
-        Participant participant = roomInfo.getParticipant().get(memberId);
-        if (participant == null) {
-            throw new BusinessException(PLAYER_NOT_FOUND);
-        }
+        RoomInfo roomInfo = updateRoom(roomId, room -> {
+            validateGameNotStarted(room);  // 게임 진행 중 여부 확인
+
+            Participant participant = room.getParticipant().get(memberId);
+            if (participant == null) {
+                throw new BusinessException(PLAYER_NOT_FOUND);
+            }
 
-        participant.setReady(!participant.isReady());
+            participant.setReady(!participant.isReady());
 
-        int curReadyCnt = (int) roomInfo.getParticipant().entrySet().stream()
-            .filter(entry -> entry.getValue().isReady())
-            .count();          // 전체 참가자 중 준비된 사람 수 계산
+            int curReadyCnt = (int) room.getParticipant().entrySet().stream()
+                .filter(entry -> entry.getValue().isReady())
+                .count();          // 전체 참가자 중 준비된 사람 수 계산
 
-        roomInfo.setReadyCnt(curReadyCnt);
-        redisRepository.save(roomId, roomInfo);
+            room.setReadyCnt(curReadyCnt);
+        });
 
+        Participant participant = roomInfo.getParticipant().get(memberId);
         log.info(
             "준비 상태 변경 완료 - roomId: {}, participantNo: {}, nickName: {}, ready: {}, curReady / allReady: {} / {}\n",
-            roomId, participantNo, participant.getNickName(), !participant.isReady(),
+            roomId, roomInfo.getpartNoByMemberId(memberId), participant.getNickName(), participant.isReady(),
             roomInfo.getReadyCnt(), roomInfo.getParticipant().size() - 1);
     }
 
@@ -196,38 +248,99 @@ public class RoomRedisService {
      */
     public void startGame(Long roomId, Long memberId) {
         log.info("게임 시작 요청 - roomId: {}, hostId: {}", roomId, memberId);
-        RoomInfo roomInfo = findById(roomId);
 
         if (!isHost(roomId, memberId)) {
             throw new BusinessException(UNAUTHORIZED_ACCESS);
         }
 
-        if (roomInfo.getParticipant().size() != roomInfo.getRequiredPlayers()) {
-            throw new BusinessException(PLAYER_COUNT_INVALID);
-        }
+        // 시작 직전에 누가 나가거나 준비를 풀면 다시 확인하도록 같은 낙관적 잠금으로 처리
+        RoomInfo roomInfo = updateRoom(roomId, room -> {
+            if (room.getParticipant().size() != room.getRequiredPlayers()) {
+                throw new BusinessException(PLAYER_COUNT_INVALID);
+            }
 
-        if (roomInfo.getReadyCnt() != roomInfo.getParticipant().size() - 1) {
-            throw new BusinessException(NOT_ALL_READY);
-        }
+            if (room.getReadyCnt() != room.getParticipant().size() - 1) {
+                throw new BusinessException(NOT_ALL_READY);
+            }
 
-        roomInfo.setActive(true);  // 게임 상태 변경
-        redisRepository.save(roomId, roomInfo);
+            room.setActive(true);  // 게임 상태 변경
+        });
         log.info("게임 시작 완료 - roomId: {}, gameActive: {}\n", roomId, roomInfo.isActive());
     }
 
     /**
-     * 방 삭제 및 구독 해제
+     * 방 삭제
      */
     public void deleteById(Long roomId) {
-        subscription.unsubscribe(roomId);
         redisRepository.delete(roomId);
     }
 
     /**
-     * 전체 방의 참가자 수 조회
+     * 로비 방 목록 페이지 조회 - 정렬 집합을 커서 다음부터 훑으며 조건에 맞는 방을 모은다. 한 요청에서 훑는 방은
+     * LOBBY_SCAN_LIMIT 개까지이며, 그 안에 페이지를 다 채우지 못하면 채운 만큼과 이어서 볼 커서를 반환한다.
      */
-    public HashMap<Long, Integer> getRoomPlayerCounts() {
-        return redisRepository.getRoomPlayerCounts();
+    public LobbyPageResponse getLobbyPage(LobbyRoomRequest request) {
+        int size = request.getSize() == null ? LOBBY_PAGE_SIZE
+            : Math.max(1, Math.min(request.getSize(), LOBBY_MAX_PAGE_SIZE));
+        boolean byFill = request.getSort() == LobbyRoomRequest.Sort.FILL;
+        Long cursor = parseCursor(request.getCursor());
+
+        List<RoomResponse> rooms = new ArrayList<>(size);
+        int scanned = 0;
+        boolean exhausted = false;
+        while (rooms.size() < size && scanned < LOBBY_SCAN_LIMIT) {
+            int chunk = Math.min(size * 2, LOBBY_SCAN_LIMIT - scanned);
+            List<TypedTuple<String>> tuples = lobbyRepository.scan(byFill, cursor, chunk);
+            if (tuples.isEmpty()) {
+                exhausted = true;
+                break;
+            }
+
+            List<Long> roomIds = tuples.stream().map(tuple -> Long.valueOf(tuple.getValue())).toList();
+            Map<Long, RoomResponse> summaries = new HashMap<>();
+            lobbyRepository.findAllById(roomIds).forEach(room -> summaries.put(room.getRoomId(), room));
+
+            int consumed = 0;
+            while (consumed < tuples.size() && rooms.size() < size) {
+                cursor = tuples.get(consumed).getScore().longValue();
+                RoomResponse room = summaries.get(roomIds.get(consumed++));
+                if (room != null && matches(room, request)) {
+                    rooms.add(room);
+                }
+            }
+            scanned += consumed;
+            if (tuples.size() < chunk && consumed == tuples.size()) {
+                exhausted = true;  // 정렬 집합 끝까지 읽음
+                break;
+            }
+        }
+
+        return new LobbyPageResponse(rooms, exhausted || cursor == null ? null : String.valueOf(cursor));
+    }
+
+    private static boolean matches(RoomResponse room, LobbyRoomRequest request) {
+        if (request.getHasPassword() != null && room.isHasPassword() != request.getHasPassword()) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(request.getOpenSeats()) && room.getPeopleCnt() >= room.getRequiredPlayers()) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(request.getNotStarted()) && room.isStart()) {
+            return false;
+        }
+        return request.getRequiredPlayers() == null
+            || request.getRequiredPlayers().equals(room.getRequiredPlayers());
+    }
+
+    private static Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(BAD_REQUEST);
+        }
     }
 
     /**
@@ -240,20 +353,30 @@ public class RoomRedisService {
     }
 
     /**
-     * 유저의 중복 참여 확인
+     * 유저의 중복 참여 확인 - 멤버 인덱스(member:{id}:room) 조회
      */
     public boolean isMemberInRoom(Long memberId) {
-        Set<String> allRoomKeys = redisRepository.getAllRooms();
+        return redisRepository.findRoomIdByMember(memberId) != null;
+    }
 
-        for (String roomKey : allRoomKeys) {
-            RoomInfo roomInfo = redisRepository.findById(Long.valueOf(roomKey.split(":")[1]));
-            boolean duplication = roomInfo.getMemberMapping().containsValue(memberId);
+    /**
+     * 방 정보 변경 - 낙관적 잠금으로 저장하고, 충돌이 계속되면 다시 시도하라고 응답
+     */
+    private RoomInfo updateRoom(Long roomId, Consumer<RoomInfo> mutation) {
+        return updateRoom(roomId, null, (room, joinedRoomId) -> mutation.accept(room));
+    }
 
-            if (duplication) {
-                return true;
-            }  // 유저가 이미 방에 참여 중인 경우
+    /**
+     * 방 정보 변경 - memberId가 참여 중인 방 ID를 같은 낙관적 잠금 안에서 함께 확인
+     */
+    private RoomInfo updateRoom(Long roomId, Long memberId, BiConsumer<RoomInfo, Long> mutation) {
+        try {
+            return Optional.ofNullable(redisRepository.update(roomId, memberId, mutation))
+                .orElseThrow(() -> new BusinessException(ROOM_NOT_FOUND));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("방 정보 변경 충돌로 실패 - roomId: {}", roomId);
+            throw new BusinessException(ROOM_UPDATE_CONFLICT);
         }
-        return false;  // 유저가 어떤 방에도 참여하지 않은 경우
     }
 
     /**
@@ -1,24 +1,19 @@
 package com.mafia.global.common.config;
 
+import com.mafia.domain.game.service.GameTickEngine;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
-    @Bean(name = "gameTaskExecutor")
-    public Executor gameTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);  // 기본적으로 실행될 스레드 수
-        executor.setMaxPoolSize(50);  // 최대 동시 실행 가능한 스레드 수
-        executor.setQueueCapacity(100); // 대기열 크기
-        executor.setThreadNamePrefix("GameThread-");
-        executor.initialize();
-        return executor;
+    /**
+     * 모든 게임의 타이머를 구동하는 타이밍 휠 (게임 수와 무관하게 휠 1개 + 코어 수만큼의 워커 스레드)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public GameTickEngine gameTickEngine() {
+        return new GameTickEngine(Runtime.getRuntime().availableProcessors());
     }
 }
@@ -1,14 +1,14 @@
 package com.mafia.global.common.config;
 
-import com.mafia.domain.chat.service.ChatSubscriber;
+import com.mafia.global.common.service.RedisChannelRouter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class RedisConfig {
@@ -29,16 +29,31 @@ public class RedisConfig {
     }
 
 
+    /**
+     * Pub/Sub 메시지 전달용 단일 스레드 - 기본 실행기는 메시지마다 새 스레드를 만들어 같은 채널의 메시지 순서가 바뀔 수 있다.
+     * 라우터는 채널별 StompDispatcher 샤드에 넘기기만 하므로 한 스레드로 충분하다.
+     */
     @Bean
-    public RedisMessageListenerContainer redisContainer(RedisConnectionFactory connectionFactory) {
-        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
-        container.setConnectionFactory(connectionFactory);
-        return container;
+    public ThreadPoolTaskExecutor redisListenerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("redis-listener-");
+        return executor;
     }
 
     @Bean
-    public MessageListenerAdapter listenerAdapter(ChatSubscriber subscriber) {
-        return new MessageListenerAdapter(subscriber, "onMessage");
+    public RedisMessageListenerContainer redisContainer(RedisConnectionFactory connectionFactory,
+        RedisChannelRouter channelRouter, StompBrokerProperties brokerProperties,
+        ThreadPoolTaskExecutor redisListenerExecutor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(redisListenerExecutor);
+        // 게임/방 채널은 패턴으로 한 번만 구독하고 채널명으로 라우팅한다 (relay 모드는 브로커가 노드 간 전달을 맡는다)
+        if (!brokerProperties.isRelay()) {
+            container.addMessageListener(channelRouter, RedisChannelRouter.TOPICS);
+        }
+        return container;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.mafia.global.common.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * @Scheduled 작업 스레드 풀 (spring.task.scheduling.pool.size)
+     * <p>
+     * STOMP 설정이 스케줄러 빈을 만들면 Boot 기본 스케줄러가 등록되지 않으므로, @Scheduled가 찾는 이름(taskScheduler)으로
+     * 직접 등록한다. 스레드가 하나면 Redis를 훑는 느린 작업(게임 복구 스캔, 게스트 정리)이 로비 전송(150ms)과 연결 종료
+     * 알림(500ms)을 밀어낸다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+}
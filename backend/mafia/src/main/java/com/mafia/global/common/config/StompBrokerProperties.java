@@ -0,0 +1,33 @@
+package com.mafia.global.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 브로커 설정.
+ * <p>
+ * simple: 노드마다 내장 브로커를 쓰고, 노드 간 전달은 Redis pub/sub 으로 한다.
+ * relay: 외부 STOMP 브로커(ActiveMQ, RabbitMQ 등)로 중계한다. 구독은 브로커가 관리하므로 노드는 자신이 가진 세션의
+ * 메시지만 받고, 실시간 메시지는 Redis를 거치지 않고 바로 브로커로 보낸다.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("stomp.broker")
+public class StompBrokerProperties {
+
+    private String mode = "simple";
+    private String relayHost = "localhost";
+    private int relayPort = 61613;
+    private String clientLogin = "guest";
+    private String clientPasscode = "guest";
+    private String systemLogin = "guest";
+    private String systemPasscode = "guest";
+    private String virtualHost;
+
+    public boolean isRelay() {
+        return "relay".equalsIgnoreCase(mode);
+    }
+}
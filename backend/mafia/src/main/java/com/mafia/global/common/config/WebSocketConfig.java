@@ -16,6 +16,7 @@ import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final StompBrokerProperties brokerProperties;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -30,7 +31,21 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");  // 🔥 클라이언트가 구독할 경로
+        if (brokerProperties.isRelay()) { // 외부 STOMP 브로커로 중계 (노드 간 수평 확장)
+            registry.enableStompBrokerRelay("/topic", "/queue")
+                .setRelayHost(brokerProperties.getRelayHost())
+                .setRelayPort(brokerProperties.getRelayPort())
+                .setClientLogin(brokerProperties.getClientLogin())
+                .setClientPasscode(brokerProperties.getClientPasscode())
+                .setSystemLogin(brokerProperties.getSystemLogin())
+                .setSystemPasscode(brokerProperties.getSystemPasscode())
+                .setVirtualHost(brokerProperties.getVirtualHost());
+            // 다른 노드에 연결된 사용자에게 보내는 user destination 메시지 전달
+            registry.setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                .setUserRegistryBroadcast("/topic/simp-user-registry");
+        } else {
+            registry.enableSimpleBroker("/topic", "/queue");  // 🔥 클라이언트가 구독할 경로 (/queue: 사용자별 메시지)
+        }
         registry.setApplicationDestinationPrefixes("/app");      // 🔥 클라이언트가 메시지를 보낼 경로
     }
 
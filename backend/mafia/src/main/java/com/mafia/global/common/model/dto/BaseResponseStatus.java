@@ -28,6 +28,7 @@ public enum BaseResponseStatus {
     CANNOT_KICK_HOST(false, HttpStatus.BAD_REQUEST, 1013, "방장은 강퇴할 수 없습니다."),
     LENGTH_PASSWORD(false, HttpStatus.BAD_REQUEST, 1014, "비밀번호는 4이상 16이하로만 설정할 수 있습니다."),
     INVALID_PASSWORD(false, HttpStatus.BAD_REQUEST, 1015, "유효하지 않은 비밀번호입니다."),
+    ROOM_UPDATE_CONFLICT(false, HttpStatus.CONFLICT, 1016, "요청이 몰려 처리하지 못했습니다. 다시 시도해주세요."),
 
     // 게임 시작 관련 (1020 ~ 1029)
     UNAUTHORIZED_ACCESS(false, HttpStatus.FORBIDDEN, 1020, "권한이 없습니다."),
@@ -53,6 +54,7 @@ public enum BaseResponseStatus {
     // Game Error Codes (4010)
     GAME_NOT_FOUND(false, HttpStatus.NOT_FOUND, 4010, "해당 방의 게임을 찾을 수 없습니다."),
     GAME_TIME_OVER(false, HttpStatus.BAD_REQUEST, 4011, "남은 시간이 얼마 없어 스킵이 불가능합니다."),
+    GAME_NOT_OWNED(false, HttpStatus.CONFLICT, 4012, "다른 서버에서 진행 중인 게임입니다. 다시 시도해주세요."),
     // Game Delete Error Codes (4020)
     GAME_DELETE_FAIL(false, HttpStatus.BAD_REQUEST, 4020, "게임 삭제에 실패했습니다."),
     //Game Vote Error Codes (4030~4039)
@@ -64,6 +66,7 @@ public enum BaseResponseStatus {
     PLAYER_CANNOT_HEAL(false, HttpStatus.BAD_REQUEST, 4040, "죽은 플레이어는 살릴 수 없습니다."),
     MEDICAL_COUNT_ZERO(false, HttpStatus.BAD_REQUEST, 4041, "모든 의사 능력 사용 횟수를 소진했습니다."),
     CANNOT_KILL_ROLE(false, HttpStatus.BAD_REQUEST, 4042, "사용자를 죽일 수 없는 직업입니다."),
+    DEAD_CANNOT_ACT(false, HttpStatus.BAD_REQUEST, 4043, "사망한 플레이어는 능력을 사용할 수 없습니다."),
     // Job Error Codes (4050~4059)
     NOT_POLICE_FIND_ROLE(false, HttpStatus.BAD_REQUEST, 4050, "경찰이 아니면 조사를 할 수 없습니다."),
     NOT_DOCTOR_HEAL(false, HttpStatus.BAD_REQUEST, 4051, "의사가 아니면 치료를 할 수 없습니다."),
@@ -0,0 +1,38 @@
+package com.mafia.global.common.service;
+
+import com.mafia.domain.chat.service.ChatSubscriber;
+import com.mafia.domain.game.event.GameSubscriber;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.stereotype.Component;
+
+/**
+ * game-*, room-* 패턴으로 한 번만 구독하고 채널 이름으로 구독자를 고르는 Redis 리스너.
+ * <p>
+ * 게임/방이 생길 때마다 채널을 추가 구독하지 않으므로 게임 시작, 종료가 Redis 연결을 건드리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisChannelRouter implements MessageListener {
+
+    public static final List<Topic> TOPICS = List.of(new PatternTopic("game-*"),
+        new PatternTopic("room-*"));
+
+    private final ChatSubscriber chatSubscriber;
+    private final GameSubscriber gameSubscriber;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        if (channel.endsWith("-chat")) {
+            chatSubscriber.onMessage(message, pattern);
+        } else if (channel.endsWith("-system")) {
+            gameSubscriber.onMessage(message, pattern);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.mafia.global.common.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채널별로 최근에 보낸 STOMP 메시지를 순번과 함께 보관하는 재전송 버퍼.
+ * <p>
+ * 메시지를 발행하는 노드가 Redis Stream(replay:{channel})에 XADD MAXLEN ~ capacity 로 남기고, 받은 스트림 ID를 채널
+ * 순번(seq)으로 쓴다. Redis Pub/Sub으로 보낼 때는 같은 스크립트에서 "{seq}\n{payload}" 형태로 순번을 붙여 발행하므로
+ * 모든 노드가 같은 순번을 STOMP 헤더로 보낸다. relay 모드에서도 발행하는 노드가 순번을 받아 브로커로 보낸다.
+ * <p>
+ * 재접속한 클라이언트가 마지막으로 받은 순번을 보내면 어느 노드에서든 그 이후 메시지만 돌려준다. 버퍼에서 밀려났거나
+ * 만료된 구간을 요청하면 재전송할 수 없고, 이때 클라이언트는 REST로 다시 불러온다. 여러 노드가 같은 채널에 발행하면
+ * 브로커 도착 순서가 순번과 다를 수 있으므로 클라이언트는 가장 큰 순번을 커서로 쓴다.
+ * <p>
+ * 최신 값만 의미 있는 메시지(타이머)는 순번 없이 replay:{channel}:latest 에 마지막 값만 남긴다. (GameTickBuffer)
+ */
+@Component
+public class ReplayBuffer {
+
+    public static final long IDLE_TTL_MILLIS = 10 * 60 * 1000L; // 이 시간 동안 메시지가 없는 채널은 만료
+    private static final String PAYLOAD = "p";
+    private static final char SEPARATOR = '\n';
+
+    // KEYS[1]: 스트림 / ARGV[1]: 최대 길이, ARGV[2]: TTL(ms), ARGV[3]: 메시지
+    private static final RedisScript<String> APPEND = new DefaultRedisScript<>("""
+        local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'p', ARGV[3])
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        return id
+        """, String.class);
+
+    // KEYS[1]: 스트림 / ARGV[1]: 최대 길이, ARGV[2]: TTL(ms), ARGV[3]: 메시지, ARGV[4]: 채널
+    private static final RedisScript<String> APPEND_AND_PUBLISH = new DefaultRedisScript<>("""
+        local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'p', ARGV[3])
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        redis.call('PUBLISH', ARGV[4], id .. '\\n' .. ARGV[3])
+        return id
+        """, String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int capacity;
+
+    public ReplayBuffer(StringRedisTemplate redisTemplate,
+        @Value("${stomp.replay.capacity:256}") int capacity) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = capacity;
+    }
+
+    public static String streamKey(String channel) {
+        return "replay:" + channel;
+    }
+
+    public static String latestKey(String channel) {
+        return "replay:" + channel + ":latest";
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 메시지를 남기고 순번을 반환한다. (relay 모드: 호출한 쪽이 순번과 함께 브로커로 보낸다)
+     */
+    public String append(String channel, String payload) {
+        return redisTemplate.execute(APPEND, List.of(streamKey(channel)),
+            String.valueOf(capacity), String.valueOf(IDLE_TTL_MILLIS), payload);
+    }
+
+    /**
+     * 메시지를 남기고 순번을 붙여 Redis Pub/Sub으로 발행한다. 받는 쪽은 {@link #unwrap}으로 순번을 떼어낸다.
+     */
+    public String appendAndPublish(String channel, String payload) {
+        return redisTemplate.execute(APPEND_AND_PUBLISH, List.of(streamKey(channel)),
+            String.valueOf(capacity), String.valueOf(IDLE_TTL_MILLIS), payload, channel);
+    }
+
+    /**
+     * Pub/Sub으로 받은 메시지에서 순번을 떼어낸다. 순번 없이 발행된 메시지(타이머 등)는 seq가 null이다.
+     */
+    public static Entry unwrap(String message) {
+        int separator = message.indexOf(SEPARATOR);
+        if (separator <= 0 || !Character.isDigit(message.charAt(0))) { // JSON 메시지는 숫자로 시작하지 않는다
+            return new Entry(null, message);
+        }
+        return new Entry(message.substring(0, separator), message.substring(separator + 1));
+    }
+
+    /**
+     * lastSeq 이후의 메시지. 이미 버퍼에서 밀려났거나 만료된 구간이 있으면 empty.
+     *
+     * @param lastSeq 마지막으로 받은 순번, 받은 메시지가 없으면 "0"
+     */
+    public Optional<Replay> since(String channel, String lastSeq) {
+        String key = streamKey(channel);
+        List<MapRecord<String, Object, Object>> records;
+        if ("0".equals(lastSeq)) {
+            Long length = redisTemplate.opsForStream().size(key);
+            if (length != null && length >= capacity) { // 처음 메시지가 밀려났을 수 있다
+                return Optional.empty();
+            }
+            records = redisTemplate.opsForStream().range(key, Range.unbounded());
+        } else {
+            // 커서 자신부터 읽어 아직 버퍼에 남아 있는지 확인한다
+            records = redisTemplate.opsForStream().range(key, Range.closed(lastSeq, "+"));
+            if (records == null || records.isEmpty() || !lastSeq.equals(records.get(0).getId().getValue())) {
+                return Optional.empty();
+            }
+            records = records.subList(1, records.size());
+        }
+
+        List<Entry> entries = new ArrayList<>(records == null ? 0 : records.size());
+        if (records != null) {
+            for (MapRecord<String, Object, Object> record : records) {
+                entries.add(new Entry(record.getId().getValue(), (String) record.getValue().get(PAYLOAD)));
+            }
+        }
+        return Optional.of(new Replay(entries, redisTemplate.opsForValue().get(latestKey(channel))));
+    }
+
+    public record Entry(String seq, String payload) {
+    }
+
+    /**
+     * 재전송할 메시지와 마지막 타이머 값
+     */
+    public record Replay(List<Entry> messages, String latest) {
+    }
+}
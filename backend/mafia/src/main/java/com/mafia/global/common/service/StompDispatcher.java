@@ -0,0 +1,171 @@
+package com.mafia.global.common.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 리스너 스레드 대신 STOMP 전송을 처리하는 샤딩된 디스패처.
+ * <p>
+ * 채널의 게임/방 ID로 샤드(단일 스레드 + bounded 큐)를 고르므로 같은 게임의 메시지는 순서대로 전송되고, 느린 세션이 있어도
+ * 다른 샤드의 게임은 영향을 받지 않는다. 큐가 가득 차면 일반 메시지는 리스너 스레드를 대기시키고(backpressure), 타이머
+ * 메시지는 채널별로 최신 값 하나만 남기고 합치거나 버린다.
+ * <p>
+ * 순서 보장 메시지에는 발행할 때 {@link ReplayBuffer}가 매긴 채널 순번(seq)을 STOMP 헤더로 붙여, 재접속한 클라이언트가
+ * 놓친 구간만 다시 받을 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class StompDispatcher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ThreadPoolExecutor[] shards;
+    private final Map<String, LatestSlot> pendingLatest = new ConcurrentHashMap<>(); // 채널 -> 전송 대기 중인 타이머
+    private final Counter coalesced;
+    private final Counter dropped;
+
+    public StompDispatcher(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry,
+        @Value("${stomp.dispatch.shards:4}") int shardCount,
+        @Value("${stomp.dispatch.queue-capacity:10000}") int queueCapacity) {
+        this.messagingTemplate = messagingTemplate;
+        this.shards = new ThreadPoolExecutor[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            int shard = i;
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "StompDispatch-" + shard);
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                StompDispatcher::waitForSpace);
+            shards[i] = executor;
+            Gauge.builder("stomp.dispatch.queue.depth", executor, e -> e.getQueue().size())
+                .tag("shard", String.valueOf(shard))
+                .description("STOMP 전송 대기 메시지 수")
+                .register(meterRegistry);
+        }
+        this.coalesced = Counter.builder("stomp.dispatch.coalesced")
+            .description("최신 값으로 합쳐진 타이머 메시지 수").register(meterRegistry);
+        this.dropped = Counter.builder("stomp.dispatch.dropped")
+            .description("큐가 가득 차 버려진 타이머 메시지 수").register(meterRegistry);
+    }
+
+    /**
+     * 순서를 보장해야 하는 메시지 (채팅, 투표 결과 등)
+     *
+     * @param seq 재전송 버퍼의 채널 순번 (없으면 null)
+     */
+    public void dispatch(String channel, String payload, String seq) {
+        // 대기 중인 타이머는 이 메시지보다 앞선 값이므로 이후 타이머가 그 자리로 합쳐지지 않게 닫는다
+        LatestSlot pending = pendingLatest.remove(channel);
+        if (pending != null) {
+            pending.close();
+        }
+        Map<String, Object> headers = seq == null ? null : Map.of("seq", seq);
+        shardOf(channel).execute(() -> send(channel, payload, headers));
+    }
+
+    /**
+     * 최신 값만 의미 있는 메시지 (타이머). 같은 채널의 이전 메시지가 아직 대기 중이면 그 자리를 최신 값으로 바꾼다.
+     */
+    public void dispatchLatest(String channel, String payload) {
+        LatestSlot pending = pendingLatest.get(channel);
+        if (pending != null && pending.offer(payload)) {
+            coalesced.increment();
+            return;
+        }
+
+        ThreadPoolExecutor shard = shardOf(channel);
+        if (shard.getQueue().remainingCapacity() == 0) {
+            dropped.increment();
+            return;
+        }
+        LatestSlot slot = new LatestSlot(payload);
+        pendingLatest.put(channel, slot);
+        shard.execute(() -> {
+            pendingLatest.remove(channel, slot);
+            send(channel, slot.take(), null);
+        });
+    }
+
+    private void send(String channel, String payload, Map<String, Object> headers) {
+        try {
+            // WebSocket을 통해 클라이언트에게 메시지 전달
+            messagingTemplate.convertAndSend("/topic/" + channel, payload, headers);
+        } catch (RuntimeException e) {
+            log.error("[StompDispatcher] {} 채널 전송 실패: {}", channel, e.getMessage());
+        }
+    }
+
+    /**
+     * game-{id}-..., room-{id}-... 채널의 ID로 샤드를 고른다.
+     */
+    private ThreadPoolExecutor shardOf(String channel) {
+        int start = channel.indexOf('-') + 1;
+        int end = channel.indexOf('-', start);
+        String key = end > start ? channel.substring(start, end) : channel;
+        return shards[Math.floorMod(key.hashCode(), shards.length)];
+    }
+
+    // 큐가 가득 차면 자리가 날 때까지 호출 스레드(Redis 리스너)를 대기시킨다
+    private static void waitForSpace(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("StompDispatcher is shut down");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for dispatch queue", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    /**
+     * 큐에서 전송을 기다리는 타이머 값. 전송되거나 뒤에 순서 보장 메시지가 들어오면 닫혀 더 이상 값을 바꿀 수 없다.
+     */
+    private static final class LatestSlot {
+
+        private String payload;
+        private boolean closed;
+
+        private LatestSlot(String payload) {
+            this.payload = payload;
+        }
+
+        synchronized boolean offer(String latest) {
+            if (closed) {
+                return false;
+            }
+            payload = latest;
+            return true;
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+
+        synchronized String take() {
+            closed = true;
+            return payload;
+        }
+    }
+}
@@ -1,6 +0,0 @@
-package com.mafia.global.common.service;
-
-public interface Subscription {
-    void subscribe(Long pk);
-    void unsubscribe(Long pk);
-}
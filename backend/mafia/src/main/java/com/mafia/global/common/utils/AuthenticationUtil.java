@@ -1,7 +1,10 @@
 package com.mafia.global.common.utils;
 
+import com.mafia.domain.chat.model.StompPrincipal;
 import com.mafia.domain.login.model.dto.AuthenticatedUser;
+import java.security.Principal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -24,4 +27,18 @@ public class AuthenticationUtil {
             .getPrincipal();
         return oAuth2User.getMemberId();
     }
-}
\ No newline at end of file
+
+    /**
+     * STOMP 메시지의 사용자 ID - 핸드셰이크 인증 토큰 또는 StompHandler가 바꾼 StompPrincipal (없으면 null)
+     */
+    public static Long memberIdOf(Principal principal) {
+        if (principal instanceof StompPrincipal detail) {
+            return detail.getMemberId();
+        }
+        if (principal instanceof UsernamePasswordAuthenticationToken token
+            && token.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getMemberId();
+        }
+        return null;
+    }
+}
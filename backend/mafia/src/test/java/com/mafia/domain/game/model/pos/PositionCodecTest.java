@@ -0,0 +1,96 @@
+package com.mafia.domain.game.model.pos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 위치 프레임을 인코딩한 뒤 다시 디코딩하면 1/4 px 정밀도 안에서 같은 값이 나오는지 검증한다.
+ */
+class PositionCodecTest {
+
+	@Test
+	void roundTripKeepsEveryField() {
+		PlayerPosition position = new PlayerPosition(7, "character3", 1234.25, 567.5, -120.75, 88.0, "left");
+
+		PlayerPosition decoded = roundTrip(position);
+
+		assertThat(decoded).isEqualTo(position);
+	}
+
+	@Test
+	void coordinatesAreRoundedToQuarterPixels() {
+		PlayerPosition position = new PlayerPosition(1, "character1", 10.1, 10.2, 3.37, -3.37, "down");
+
+		PlayerPosition decoded = roundTrip(position);
+
+		assertThat(decoded.getX()).isEqualTo(10.0);
+		assertThat(decoded.getY()).isEqualTo(10.25);
+		assertThat(decoded.getVelocityX()).isEqualTo(3.25);
+		assertThat(decoded.getVelocityY()).isEqualTo(-3.25);
+	}
+
+	@Test
+	void valuesOutsideTheFrameRangeAreClamped() {
+		PlayerPosition position = new PlayerPosition(2, "character2", -5, 100_000, -100_000, 100_000, "up");
+
+		PlayerPosition decoded = roundTrip(position);
+
+		assertThat(decoded.getX()).isZero();
+		assertThat(decoded.getY()).isEqualTo(0xFFFF / 4.0);
+		assertThat(decoded.getVelocityX()).isEqualTo(Short.MIN_VALUE / 4.0);
+		assertThat(decoded.getVelocityY()).isEqualTo(Short.MAX_VALUE / 4.0);
+	}
+
+	@Test
+	void unknownCharacterAndDirectionDecodeToNull() {
+		PlayerPosition position = new PlayerPosition(3, "ghost", 1, 1, 0, 0, "diagonal");
+
+		PlayerPosition decoded = roundTrip(position);
+
+		assertThat(decoded.getCharacter()).isNull();
+		assertThat(decoded.getLastDirection()).isNull();
+	}
+
+	@Test
+	void framesAreWrittenAndReadAtOffset() {
+		PlayerPosition first = new PlayerPosition(1, "character1", 1.5, 2.5, 0, 0, "down");
+		PlayerPosition second = new PlayerPosition(2, "character5", 300, 400, -1, 1, "right");
+		byte[] batch = new byte[PositionCodec.FRAME_SIZE * 2];
+
+		PositionCodec.encode(first, batch, 0);
+		PositionCodec.encode(second, batch, PositionCodec.FRAME_SIZE);
+
+		PlayerPosition decoded = new PlayerPosition();
+		PositionCodec.decode(batch, PositionCodec.FRAME_SIZE, decoded);
+		assertThat(decoded).isEqualTo(second);
+		assertThat(PositionCodec.playerNo(batch, 0)).isEqualTo(1);
+		assertThat(PositionCodec.playerNo(batch, PositionCodec.FRAME_SIZE)).isEqualTo(2);
+	}
+
+	@Test
+	void isValidChecksLengthVersionAndPlayerNo() {
+		byte[] frame = new byte[PositionCodec.FRAME_SIZE];
+		PositionCodec.encode(new PlayerPosition(4, "character4", 0, 0, 0, 0, "up"), frame, 0);
+		assertThat(PositionCodec.isValid(frame)).isTrue();
+
+		assertThat(PositionCodec.isValid(null)).isFalse();
+		assertThat(PositionCodec.isValid(new byte[PositionCodec.FRAME_SIZE - 1])).isFalse();
+
+		byte[] wrongVersion = frame.clone();
+		wrongVersion[0] = PositionCodec.VERSION + 1;
+		assertThat(PositionCodec.isValid(wrongVersion)).isFalse();
+
+		byte[] noPlayer = frame.clone();
+		noPlayer[1] = 0;
+		assertThat(PositionCodec.isValid(noPlayer)).isFalse();
+	}
+
+	private static PlayerPosition roundTrip(PlayerPosition position) {
+		byte[] frame = new byte[PositionCodec.FRAME_SIZE];
+		PositionCodec.encode(position, frame, 0);
+		PlayerPosition decoded = new PlayerPosition();
+		PositionCodec.decode(frame, 0, decoded);
+		return decoded;
+	}
+}
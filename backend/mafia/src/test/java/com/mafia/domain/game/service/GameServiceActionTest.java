@@ -0,0 +1,202 @@
+package com.mafia.domain.game.service;
+
+import static com.mafia.global.common.model.dto.BaseResponseStatus.DEAD_CANNOT_ACT;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.DEAD_CANNOT_VOTE;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.GAME_NOT_OWNED;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.INVALID_PHASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mafia.domain.game.model.dto.GameCommand;
+import com.mafia.domain.game.model.game.Game;
+import com.mafia.domain.game.model.game.GameEventType;
+import com.mafia.domain.game.model.game.GameOption;
+import com.mafia.domain.game.model.game.GamePhase;
+import com.mafia.domain.game.model.game.Role;
+import com.mafia.domain.game.repository.GameEventRepository;
+import com.mafia.domain.game.repository.GameRegistry;
+import com.mafia.domain.game.repository.GameSeqRepository;
+import com.mafia.domain.room.model.redis.Participant;
+import com.mafia.global.common.exception.exception.BusinessException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * 게임 액션(투표, 최종 투표, 타겟 지정)이 페이즈 검증과 함께 게임 모니터 안에서 한 번에 처리되는지 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class GameServiceActionTest {
+
+	private static final long GAME_ID = 1L;
+	private static final int PLAYERS = 6;
+
+	@Mock
+	private GameRegistry gameRegistry;
+	@Mock
+	private GameEventRepository gameEventRepository;
+	@Mock
+	private GameSeqRepository gameSeqRepository;
+	@Mock
+	private GameCommandRelay commandRelay;
+	@InjectMocks
+	private GameService gameService;
+
+	private Game game;
+
+	@BeforeEach
+	void setUp() {
+		game = new Game(GAME_ID, new GameOption());
+		Map<Integer, Long> numbers = new HashMap<>();
+		for (long memberId = 1; memberId <= PLAYERS; memberId++) {
+			game.addPlayer(new Participant(memberId, "player" + memberId));
+			numbers.put((int) memberId, memberId);
+		}
+		game.setMap_players(numbers);
+		when(gameRegistry.find(GAME_ID)).thenReturn(Optional.of(game));
+	}
+
+	@Test
+	void voteIsRecordedAndAppendedInVotePhase() {
+		game.setPhase(GamePhase.DAY_VOTE);
+
+		gameService.vote(GAME_ID, 1L, 2);
+
+		assertThat(game.getVotes()).containsEntry(1L, 2);
+		verify(gameEventRepository).append(game, GameEventType.VOTE, 1L, 2);
+	}
+
+	@Test
+	void voteOutsideVotePhaseIsRejectedWithoutSideEffects() {
+		game.setPhase(GamePhase.NIGHT_ACTION);
+
+		assertThatThrownBy(() -> gameService.vote(GAME_ID, 1L, 2))
+			.isInstanceOfSatisfying(BusinessException.class,
+				e -> assertThat(e.getBaseResponseStatus()).isEqualTo(INVALID_PHASE));
+		assertThat(game.getVotes()).isEmpty();
+		verify(gameEventRepository, never()).append(any(), any(), any(), any());
+	}
+
+	@Test
+	void voteWaitingOnTransitionSeesTheNewPhase() throws Exception {
+		game.setPhase(GamePhase.DAY_VOTE);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread voter = new Thread(() -> {
+			try {
+				gameService.vote(GAME_ID, 1L, 2);
+			} catch (Throwable e) {
+				failure.set(e);
+			}
+		});
+
+		synchronized (game) { // 페이즈 전환 중: 투표는 모니터를 기다린다
+			voter.start();
+			awaitBlocked(voter);
+			game.setPhase(GamePhase.DAY_FINAL_STATEMENT);
+		}
+		voter.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertThat(failure.get()).isInstanceOfSatisfying(BusinessException.class,
+			e -> assertThat(e.getBaseResponseStatus()).isEqualTo(INVALID_PHASE));
+		assertThat(game.getVotes()).isEmpty();
+	}
+
+	@Test
+	void concurrentVotesAreAllRecorded() throws Exception {
+		game.setPhase(GamePhase.DAY_VOTE);
+		ExecutorService executor = Executors.newFixedThreadPool(PLAYERS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			Future<?>[] votes = new Future<?>[PLAYERS];
+			for (int i = 0; i < PLAYERS; i++) {
+				long voter = i + 1;
+				votes[i] = executor.submit(() -> {
+					start.await();
+					gameService.vote(GAME_ID, voter, 1);
+					return null;
+				});
+			}
+			start.countDown();
+			for (Future<?> vote : votes) {
+				vote.get(5, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(game.getVotes()).hasSize(PLAYERS).containsValue(1);
+		verify(gameEventRepository, times(PLAYERS)).append(any(), any(), any(), any());
+		assertThat(game.voteResult()).isEqualTo(1);
+	}
+
+	@Test
+	void deadPlayerCannotFinalVote() {
+		game.setPhase(GamePhase.DAY_FINAL_VOTE);
+		game.getPlayers().get(3L).setDead(true);
+
+		assertThatThrownBy(() -> gameService.finalVote(GAME_ID, 3L))
+			.isInstanceOfSatisfying(BusinessException.class,
+				e -> assertThat(e.getBaseResponseStatus()).isEqualTo(DEAD_CANNOT_VOTE));
+		assertThat(game.getFinal_vote()).isZero();
+	}
+
+	@Test
+	void deadPlayerCannotSetTarget() {
+		game.setPhase(GamePhase.NIGHT_ACTION);
+		game.getPlayers().get(4L).setRole(Role.ZOMBIE);
+		game.getPlayers().get(4L).setDead(true);
+
+		assertThatThrownBy(() -> gameService.setTarget(GAME_ID, 4L, 1))
+			.isInstanceOfSatisfying(BusinessException.class,
+				e -> assertThat(e.getBaseResponseStatus()).isEqualTo(DEAD_CANNOT_ACT));
+		assertThat(game.getKillTarget()).isEmpty();
+	}
+
+	@Test
+	void actionOnGameOwnedByAnotherNodeIsForwardedToTheOwner() throws Exception {
+		when(gameRegistry.find(GAME_ID)).thenReturn(Optional.empty());
+		when(gameSeqRepository.getPhase(GAME_ID)).thenReturn(GamePhase.NIGHT_ACTION);
+		when(commandRelay.forward(GameCommand.target(GAME_ID, 4L, 1))).thenReturn("1의 직업은 CITIZEN입니다.");
+
+		assertThat(gameService.setTarget(GAME_ID, 4L, 1)).isEqualTo("1의 직업은 CITIZEN입니다.");
+		verify(gameEventRepository, never()).append(any(), any(), any(), any());
+	}
+
+	@Test
+	void forwardedCommandIsNotForwardedAgainAfterTheLeaseMoved() {
+		when(gameRegistry.find(GAME_ID)).thenReturn(Optional.empty());
+		when(gameSeqRepository.getPhase(GAME_ID)).thenReturn(GamePhase.DAY_VOTE);
+
+		assertThatThrownBy(() -> gameService.execute(GameCommand.vote(GAME_ID, 1L, 2)))
+			.isInstanceOfSatisfying(BusinessException.class,
+				e -> assertThat(e.getBaseResponseStatus()).isEqualTo(GAME_NOT_OWNED));
+		verify(commandRelay, never()).forward(any());
+	}
+
+	private static void awaitBlocked(Thread thread) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (thread.getState() != Thread.State.BLOCKED) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("투표 스레드가 게임 모니터에서 대기하지 않습니다: " + thread.getState());
+			}
+			Thread.onSpinWait();
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.mafia.domain.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 10,000개의 가상 게임을 실제 휠 스레드로 구동해 1초 틱의 지터를 측정하는 부하 측정.
+ * <p>
+ * 실제 시간에 의존하므로 기본 test 태스크에서는 제외되고 ./gradlew benchmark 로만 실행된다.
+ */
+@Tag("benchmark")
+class GameTickEngineBenchmark {
+
+	private static final int GAMES = 10_000;
+	private static final long RUN_MILLIS = 4_500;
+
+	private GameTickEngine engine;
+
+	@AfterEach
+	void tearDown() {
+		if (engine != null) {
+			engine.shutdown();
+		}
+	}
+
+	@Test
+	void tickJitterAtTenThousandGames() throws InterruptedException {
+		engine = new GameTickEngine(Runtime.getRuntime().availableProcessors());
+
+		AtomicLongArray lastTick = new AtomicLongArray(GAMES);
+		AtomicLongArray maxJitter = new AtomicLongArray(GAMES);
+		AtomicLongArray ticks = new AtomicLongArray(GAMES);
+
+		for (int i = 0; i < GAMES; i++) {
+			int game = i;
+			engine.register(game, () -> {
+				long now = System.nanoTime();
+				long prev = lastTick.getAndSet(game, now);
+				if (prev != 0) {
+					long jitter = Math.abs(TimeUnit.NANOSECONDS.toMillis(now - prev) - 1000);
+					maxJitter.accumulateAndGet(game, jitter, Math::max);
+				}
+				ticks.incrementAndGet(game);
+			});
+		}
+		assertThat(engine.size()).isEqualTo(GAMES);
+
+		Thread.sleep(RUN_MILLIS);
+
+		long[] jitters = new long[GAMES];
+		long minTicks = Long.MAX_VALUE;
+		for (int i = 0; i < GAMES; i++) {
+			jitters[i] = maxJitter.get(i);
+			minTicks = Math.min(minTicks, ticks.get(i));
+		}
+		Arrays.sort(jitters);
+		long p99 = jitters[(int) (GAMES * 0.99)];
+
+		assertThat(minTicks).as("게임별 최소 틱 수").isGreaterThanOrEqualTo(3);
+		assertThat(p99).as("틱 지터 p99 (ms)").isLessThan(GameTickEngine.TICK_MILLIS);
+	}
+}
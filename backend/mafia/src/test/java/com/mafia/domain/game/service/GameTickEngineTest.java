@@ -0,0 +1,142 @@
+package com.mafia.domain.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 휠 스레드 없이 advance()를 직접 호출해 슬롯 진행 순서와 등록 해제를 검증한다.
+ */
+class GameTickEngineTest {
+
+	@Test
+	void eachGameTicksOncePerRevolution() {
+		GameTickEngine engine = new GameTickEngine(Runnable::run);
+		int[] ticks = new int[100];
+		for (int i = 0; i < ticks.length; i++) {
+			int game = i;
+			engine.register(game, () -> ticks[game]++);
+		}
+
+		advance(engine, GameTickEngine.WHEEL_SIZE);
+		assertThat(ticks).containsOnly(1);
+
+		advance(engine, GameTickEngine.WHEEL_SIZE * 2);
+		assertThat(ticks).containsOnly(3);
+	}
+
+	@Test
+	void gameTicksEveryWheelSizeSlots() {
+		GameTickEngine engine = new GameTickEngine(Runnable::run);
+		AtomicInteger slot = new AtomicInteger();
+		List<Integer> tickedAt = new ArrayList<>();
+		engine.register(42L, () -> tickedAt.add(slot.get()));
+
+		for (int i = 0; i < GameTickEngine.WHEEL_SIZE * 3; i++) {
+			slot.set(i);
+			engine.advance();
+		}
+
+		assertThat(tickedAt).hasSize(3);
+		assertThat(tickedAt.get(1) - tickedAt.get(0)).isEqualTo(GameTickEngine.WHEEL_SIZE);
+		assertThat(tickedAt.get(2) - tickedAt.get(1)).isEqualTo(GameTickEngine.WHEEL_SIZE);
+	}
+
+	@Test
+	void slotListenerIsHandedToWorkersBeforeSlotTimers() {
+		GameTickEngine engine = new GameTickEngine(Runnable::run);
+		List<String> order = new ArrayList<>();
+		engine.onSlotStart(() -> order.add("slot"));
+		engine.register(7L, () -> order.add("tick"));
+
+		advance(engine, GameTickEngine.WHEEL_SIZE);
+
+		assertThat(order).hasSize(GameTickEngine.WHEEL_SIZE + 1);
+		int tickAt = order.indexOf("tick");
+		assertThat(tickAt).isPositive();
+		assertThat(order.get(tickAt - 1)).isEqualTo("slot");
+	}
+
+	@Test
+	void slowSlotListenerIsSkippedInsteadOfQueued() {
+		List<Runnable> queued = new ArrayList<>(); // 워커가 아직 실행하지 않은 작업
+		GameTickEngine engine = new GameTickEngine(queued::add);
+		AtomicInteger runs = new AtomicInteger();
+		engine.onSlotStart(runs::incrementAndGet);
+
+		advance(engine, 3);
+		assertThat(queued).hasSize(1);
+
+		queued.remove(0).run();
+		engine.advance();
+		assertThat(queued).hasSize(1);
+		assertThat(runs).hasValue(1);
+	}
+
+	@Test
+	void unregisteredGameStopsTicking() {
+		GameTickEngine engine = new GameTickEngine(Runnable::run);
+		AtomicInteger ticks = new AtomicInteger();
+		engine.register(1L, ticks::incrementAndGet);
+		advance(engine, GameTickEngine.WHEEL_SIZE);
+
+		engine.unregister(1L);
+		advance(engine, GameTickEngine.WHEEL_SIZE * 2);
+
+		assertThat(ticks).hasValue(1);
+		assertThat(engine.isRegistered(1L)).isFalse();
+		assertThat(engine.size()).isZero();
+	}
+
+	@Test
+	void registerReplacesExistingTask() {
+		GameTickEngine engine = new GameTickEngine(Runnable::run);
+		AtomicInteger first = new AtomicInteger();
+		AtomicInteger second = new AtomicInteger();
+		engine.register(3L, first::incrementAndGet);
+		engine.register(3L, second::incrementAndGet);
+
+		advance(engine, GameTickEngine.WHEEL_SIZE);
+
+		assertThat(first).hasValue(0);
+		assertThat(second).hasValue(1);
+		assertThat(engine.size()).isEqualTo(1);
+	}
+
+	@Test
+	void skipsTickWhilePreviousTickIsStillRunning() {
+		List<Runnable> queued = new ArrayList<>(); // 워커가 아직 실행하지 않은 틱
+		GameTickEngine engine = new GameTickEngine(queued::add);
+		engine.register(5L, () -> { });
+
+		advance(engine, GameTickEngine.WHEEL_SIZE * 2);
+		assertThat(queued).hasSize(1);
+
+		queued.remove(0).run();
+		advance(engine, GameTickEngine.WHEEL_SIZE);
+		assertThat(queued).hasSize(1);
+	}
+
+	@Test
+	void failingTickDoesNotStopTheWheel() {
+		GameTickEngine engine = new GameTickEngine(Runnable::run);
+		AtomicInteger ticks = new AtomicInteger();
+		engine.register(9L, () -> {
+			ticks.incrementAndGet();
+			throw new IllegalStateException("tick failed");
+		});
+
+		advance(engine, GameTickEngine.WHEEL_SIZE * 2);
+
+		assertThat(ticks).hasValue(2);
+	}
+
+	private static void advance(GameTickEngine engine, int slots) {
+		for (int i = 0; i < slots; i++) {
+			engine.advance();
+		}
+	}
+}
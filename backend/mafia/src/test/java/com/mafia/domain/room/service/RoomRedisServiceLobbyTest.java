@@ -0,0 +1,200 @@
+package com.mafia.domain.room.service;
+
+import static com.mafia.global.common.model.dto.BaseResponseStatus.BAD_REQUEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+
+import com.mafia.domain.room.model.request.LobbyRoomRequest;
+import com.mafia.domain.room.model.request.LobbyRoomRequest.Sort;
+import com.mafia.domain.room.model.response.LobbyPageResponse;
+import com.mafia.domain.room.model.response.RoomResponse;
+import com.mafia.domain.room.repository.LobbyRedisRepository;
+import com.mafia.global.common.exception.exception.BusinessException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+/**
+ * 로비 방 목록 커서 페이징이 조건에 맞지 않는 방과 삭제된 방을 건너뛰며 페이지를 채우고, 커서로 빠짐없이 이어지는지 검증한다.
+ * 로비 요약 뷰는 정렬 집합의 점수 규칙(생성 순: roomId, 인원 순: 채운 비율 * 2^32 + roomId)을 따르는 메모리 구현으로 대신한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomRedisServiceLobbyTest {
+
+	private static final long ROOM_ID_RANGE = 1L << 32;
+
+	@Mock
+	private LobbyRedisRepository lobbyRepository;
+	@InjectMocks
+	private RoomRedisService roomRedisService;
+
+	private final Map<Long, RoomResponse> summaries = new TreeMap<>();
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(lobbyRepository.scan(anyBoolean(), any(), anyInt())).thenAnswer(invocation ->
+			scan(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+		lenient().when(lobbyRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+			Collection<Long> roomIds = invocation.getArgument(0);
+			return roomIds.stream().filter(summaries::containsKey).map(summaries::get).toList();
+		});
+	}
+
+	@Test
+	void pagesThroughAllRoomsInCreationOrder() {
+		addRooms(45);
+
+		LobbyPageResponse first = roomRedisService.getLobbyPage(request(null));
+		LobbyPageResponse second = roomRedisService.getLobbyPage(request(first.getNextCursor()));
+		LobbyPageResponse last = roomRedisService.getLobbyPage(request(second.getNextCursor()));
+
+		assertThat(roomIds(first)).containsExactlyElementsOf(range(1, 20));
+		assertThat(roomIds(second)).containsExactlyElementsOf(range(21, 40));
+		assertThat(roomIds(last)).containsExactlyElementsOf(range(41, 45));
+		assertThat(last.getNextCursor()).isNull();
+	}
+
+	@Test
+	void filteredOutRoomsAreSkippedAndThePageIsStillFilled() {
+		addRooms(30);
+		summaries.values().forEach(room -> room.setHasPassword(room.getRoomId() % 2 == 1));
+		LobbyRoomRequest request = request(null);
+		request.setSize(5);
+		request.setHasPassword(false);
+
+		LobbyPageResponse page = roomRedisService.getLobbyPage(request);
+
+		assertThat(roomIds(page)).containsExactly(2L, 4L, 6L, 8L, 10L);
+		assertThat(page.getNextCursor()).isEqualTo("10");
+	}
+
+	@Test
+	void openSeatsAndNotStartedFiltersAreCombined() {
+		addRooms(6);
+		summaries.get(2L).setPeopleCnt(8);
+		summaries.get(3L).setStart(true);
+		LobbyRoomRequest request = request(null);
+		request.setOpenSeats(true);
+		request.setNotStarted(true);
+
+		LobbyPageResponse page = roomRedisService.getLobbyPage(request);
+
+		assertThat(roomIds(page)).containsExactly(1L, 4L, 5L, 6L);
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void roomDeletedBetweenScanAndReadIsSkipped() {
+		addRooms(3);
+		List<TypedTuple<String>> staleIndex = scan(false, null, 10);
+		summaries.remove(2L);
+		lenient().when(lobbyRepository.scan(false, null, 40)).thenReturn(staleIndex);
+
+		LobbyPageResponse page = roomRedisService.getLobbyPage(request(null));
+
+		assertThat(roomIds(page)).containsExactly(1L, 3L);
+	}
+
+	@Test
+	void fillSortReturnsFullestRoomsFirstAndPagesWithTheScoreCursor() {
+		addRooms(4);
+		summaries.get(1L).setPeopleCnt(6);
+		summaries.get(2L).setPeopleCnt(2);
+		summaries.get(3L).setPeopleCnt(6);
+		summaries.get(4L).setPeopleCnt(4);
+		LobbyRoomRequest request = request(null);
+		request.setSort(Sort.FILL);
+		request.setSize(2);
+
+		LobbyPageResponse first = roomRedisService.getLobbyPage(request);
+		request.setCursor(first.getNextCursor());
+		LobbyPageResponse second = roomRedisService.getLobbyPage(request);
+
+		assertThat(roomIds(first)).containsExactly(3L, 1L); // 같은 비율이면 최근 생성 순
+		assertThat(roomIds(second)).containsExactly(4L, 2L);
+	}
+
+	@Test
+	void scanStopsAtTheLimitAndReturnsACursorToContinue() {
+		addRooms(300);
+		summaries.values().forEach(room -> room.setStart(true));
+		LobbyRoomRequest request = request(null);
+		request.setNotStarted(true);
+
+		LobbyPageResponse page = roomRedisService.getLobbyPage(request);
+
+		assertThat(page.getRooms()).isEmpty();
+		assertThat(page.getNextCursor()).isEqualTo("200");
+	}
+
+	@Test
+	void invalidCursorIsRejected() {
+		assertThatThrownBy(() -> roomRedisService.getLobbyPage(request("abc")))
+			.isInstanceOfSatisfying(BusinessException.class,
+				e -> assertThat(e.getBaseResponseStatus()).isEqualTo(BAD_REQUEST));
+	}
+
+	private void addRooms(int count) {
+		for (long roomId = 1; roomId <= count; roomId++) {
+			RoomResponse room = new RoomResponse();
+			room.setRoomId(roomId);
+			room.setRoomTitle("room" + roomId);
+			room.setPeopleCnt(1);
+			room.setRequiredPlayers(8);
+			summaries.put(roomId, room);
+		}
+	}
+
+	// LobbyRedisRepository.scan 과 같은 규칙: 커서(점수)는 제외, 생성 순은 오름차순, 인원 순은 내림차순
+	private List<TypedTuple<String>> scan(boolean byFill, Long cursor, int count) {
+		List<TypedTuple<String>> tuples = new ArrayList<>();
+		for (RoomResponse room : summaries.values()) {
+			double score = byFill ? fillScore(room) : room.getRoomId();
+			if (cursor == null || (byFill ? score < cursor : score > cursor)) {
+				tuples.add(new DefaultTypedTuple<>(String.valueOf(room.getRoomId()), score));
+			}
+		}
+		Comparator<TypedTuple<String>> order = Comparator.comparing(TypedTuple::getScore);
+		tuples.sort(byFill ? order.reversed() : order);
+		return new ArrayList<>(tuples.subList(0, Math.min(count, tuples.size())));
+	}
+
+	private static double fillScore(RoomResponse room) {
+		long fillPercent = Math.min(100, room.getPeopleCnt() * 100L / room.getRequiredPlayers());
+		return fillPercent * ROOM_ID_RANGE + room.getRoomId();
+	}
+
+	private static LobbyRoomRequest request(String cursor) {
+		LobbyRoomRequest request = new LobbyRoomRequest();
+		request.setCursor(cursor);
+		return request;
+	}
+
+	private static List<Long> roomIds(LobbyPageResponse page) {
+		return page.getRooms().stream().map(RoomResponse::getRoomId).toList();
+	}
+
+	private static List<Long> range(long from, long to) {
+		List<Long> ids = new ArrayList<>();
+		for (long id = from; id <= to; id++) {
+			ids.add(id);
+		}
+		return ids;
+	}
+}
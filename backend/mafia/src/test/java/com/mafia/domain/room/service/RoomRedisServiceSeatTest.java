@@ -0,0 +1,204 @@
+package com.mafia.domain.room.service;
+
+import static com.mafia.global.common.model.dto.BaseResponseStatus.ALREADY_HAS_ROOM;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.PLAYER_NOT_FOUND;
+import static com.mafia.global.common.model.dto.BaseResponseStatus.ROOM_FULL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.mafia.domain.member.model.dto.response.MemberResponse;
+import com.mafia.domain.member.service.MemberService;
+import com.mafia.domain.room.model.dto.RoomLeftEvent;
+import com.mafia.domain.room.model.entity.Room;
+import com.mafia.domain.room.model.redis.Participant;
+import com.mafia.domain.room.model.redis.RoomInfo;
+import com.mafia.domain.room.repository.RoomRedisRepository;
+import com.mafia.domain.room.repository.RoomRepository;
+import com.mafia.global.common.exception.exception.BusinessException;
+import com.mafia.global.common.model.dto.BaseResponseStatus;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 참가자 번호 배정과 강제 퇴장이 낙관적 잠금 충돌 뒤 최신 방 상태로 다시 판단되는지 검증한다.
+ * <p>
+ * RoomRedisRepository.update 는 저장된 방의 복사본에 mutation을 적용하고, 첫 시도의 EXEC 전에 다른 요청의 변경
+ * (concurrentChange)이 있으면 그 시도를 버리고 최신 상태로 다시 시도하는 메모리 구현으로 대신한다. 저장할 때는 실제
+ * 구현처럼 들어온 참가자의 멤버 인덱스만 쓰고 나간 참가자의 인덱스만 지운다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomRedisServiceSeatTest {
+
+	private static final long ROOM_ID = 7L;
+	private static final long HOST_ID = 1L;
+
+	@Mock
+	private RoomRedisRepository redisRepository;
+	@Mock
+	private RoomRepository roomRepository;
+	@Mock
+	private MemberService memberService;
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+	@InjectMocks
+	private RoomRedisService roomRedisService;
+
+	private RoomInfo stored;
+	private Consumer<RoomInfo> concurrentChange;            // 첫 시도의 EXEC 전에 반영되는 다른 요청의 변경
+	private final Map<Long, Long> joinedRooms = new HashMap<>(); // 멤버 인덱스 (memberId -> roomId)
+	private int attempts;
+
+	@BeforeEach
+	void setUp() {
+		stored = new RoomInfo(ROOM_ID, "room", null, 8, null);
+		seat(stored, 1, HOST_ID);
+
+		Room room = new Room();
+		room.setHostId(HOST_ID);
+		lenient().when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
+		lenient().when(memberService.getMemberInfo(any())).thenAnswer(invocation -> {
+			MemberResponse member = new MemberResponse();
+			member.setNickname("member" + invocation.getArgument(0));
+			return member;
+		});
+		lenient().when(redisRepository.findById(ROOM_ID)).thenAnswer(invocation -> copy(stored));
+		lenient().when(redisRepository.update(eq(ROOM_ID), any(), any())).thenAnswer(invocation -> {
+			Long memberId = invocation.getArgument(1);
+			BiConsumer<RoomInfo, Long> mutation = invocation.getArgument(2);
+			while (true) {
+				attempts++;
+				RoomInfo working = copy(stored);
+				mutation.accept(working, memberId == null ? null : joinedRooms.get(memberId));
+				if (concurrentChange != null) {  // WATCH 한 키가 바뀌어 EXEC 취소
+					concurrentChange.accept(stored);
+					concurrentChange = null;
+					continue;
+				}
+				stored.getParticipant().keySet().stream()
+					.filter(member -> !working.getParticipant().containsKey(member))
+					.forEach(joinedRooms::remove);
+				working.getParticipant().keySet().stream()
+					.filter(member -> !stored.getParticipant().containsKey(member))
+					.forEach(member -> joinedRooms.put(member, ROOM_ID));
+				stored = working;
+				return copy(stored);
+			}
+		});
+	}
+
+	@Test
+	void seatTakenDuringConflictIsReassignedOnRetry() {
+		concurrentChange = room -> seat(room, 2, 20L);
+
+		roomRedisService.enterRoom(ROOM_ID, 10L, null);
+
+		assertThat(attempts).isEqualTo(2);
+		assertThat(stored.getMemberMapping()).containsExactlyInAnyOrderEntriesOf(
+			Map.of(1, HOST_ID, 2, 20L, 3, 10L));
+		assertThat(stored.getParticipant()).containsOnlyKeys(HOST_ID, 20L, 10L);
+		assertThat(joinedRooms).containsEntry(10L, ROOM_ID);
+	}
+
+	@Test
+	void freedSeatIsReusedByTheNextEntrant() {
+		seat(stored, 2, 20L);
+		seat(stored, 3, 30L);
+		stored.getParticipant().remove(20L);
+		stored.getMemberMapping().remove(2);
+
+		roomRedisService.enterRoom(ROOM_ID, 10L, null);
+
+		assertThat(stored.getpartNoByMemberId(10L)).isEqualTo(2);
+	}
+
+	@Test
+	void lastSeatTakenDuringConflictRejectsWithRoomFull() {
+		stored.setRequiredPlayers(2);
+		concurrentChange = room -> seat(room, 2, 20L);
+
+		assertStatus(() -> roomRedisService.enterRoom(ROOM_ID, 10L, null), ROOM_FULL);
+		assertThat(stored.getParticipant()).containsOnlyKeys(HOST_ID, 20L);
+		assertThat(joinedRooms).doesNotContainKey(10L);
+	}
+
+	@Test
+	void memberWhoJoinedAnotherRoomDuringEntryIsRejected() {
+		joinedRooms.put(10L, 99L);  // 서비스의 사전 확인 이후 다른 방에 입장
+
+		assertStatus(() -> roomRedisService.enterRoom(ROOM_ID, 10L, null), ALREADY_HAS_ROOM);
+		assertThat(stored.getParticipant()).containsOnlyKeys(HOST_ID);
+		assertThat(joinedRooms).containsEntry(10L, 99L);
+	}
+
+	@Test
+	void kickRemovesTheMemberHoldingTheSeatInTheLatestState() {
+		seat(stored, 2, 20L);
+		concurrentChange = room -> {  // 20번이 나가고 30번이 같은 자리를 받음
+			room.getParticipant().remove(20L);
+			seat(room, 2, 30L);
+			joinedRooms.put(30L, ROOM_ID);
+		};
+
+		roomRedisService.kickMember(ROOM_ID, HOST_ID, 2);
+
+		assertThat(stored.getParticipant()).containsOnlyKeys(HOST_ID);
+		assertThat(stored.getMemberMapping()).containsOnlyKeys(1);
+		ArgumentCaptor<RoomLeftEvent> event = ArgumentCaptor.forClass(RoomLeftEvent.class);
+		verify(applicationEventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getMemberId()).isEqualTo(30L);
+		assertThat(joinedRooms).doesNotContainKey(30L);
+	}
+
+	@Test
+	void kickOfAnEmptySeatIsRejected() {
+		seat(stored, 2, 20L);
+		concurrentChange = room -> {  // 대상이 먼저 나감
+			room.getParticipant().remove(20L);
+			room.getMemberMapping().remove(2);
+		};
+
+		assertStatus(() -> roomRedisService.kickMember(ROOM_ID, HOST_ID, 2), PLAYER_NOT_FOUND);
+		verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	private static void seat(RoomInfo room, int participantNo, long memberId) {
+		room.getParticipant().put(memberId, new Participant(memberId, "member" + memberId));
+		room.getMemberMapping().put(participantNo, memberId);
+	}
+
+	private static RoomInfo copy(RoomInfo source) {
+		RoomInfo room = new RoomInfo(source.getRoomId(), source.getTitle(), source.getPassword(),
+			source.getRequiredPlayers(), source.getGameOption());
+		room.setActive(source.isActive());
+		room.setReadyCnt(source.getReadyCnt());
+		source.getParticipant().forEach((memberId, participant) -> {
+			Participant clone = new Participant(memberId, participant.getNickName());
+			clone.setReady(participant.isReady());
+			room.getParticipant().put(memberId, clone);
+		});
+		room.getMemberMapping().putAll(source.getMemberMapping());
+		return room;
+	}
+
+	private static void assertStatus(Runnable call, BaseResponseStatus status) {
+		assertThatThrownBy(call::run)
+			.isInstanceOfSatisfying(BusinessException.class,
+				e -> assertThat(e.getBaseResponseStatus()).isEqualTo(status));
+	}
+}
@@ -1,6 +1,13 @@
 import { Stomp } from '@stomp/stompjs';
 import api from '@/api/axios';
-import { Room, GameStartResponse, ParticipantMap, GameStart } from '@/types/room';
+import {
+  Room,
+  GameStartResponse,
+  ParticipantMap,
+  GameStart,
+  LobbyPage,
+  LobbyUpdate,
+} from '@/types/room';
 
 interface ApiResponse<T> {
   isSuccess: boolean;
@@ -38,10 +45,13 @@ interface WebSocketResponse {
 }
 
 let stompClient: any = null;
+const reconnectListeners = new Set<() => void>();
 
 const roomApi = {
   // HTTP 요청
-  getRooms: () => api.get<ApiResponse<Room[]>>('/api/room'),
+  // 로비 방 목록은 커서로 한 페이지씩 받는다 (첫 페이지는 cursor 없이)
+  getLobbyRooms: (cursor?: string) =>
+    api.get<ApiResponse<LobbyPage>>('/api/room/lobby', { params: cursor ? { cursor } : undefined }),
   getRoom: (roomId: number) => api.get<ApiResponse<Room>>(`/api/room/${roomId}`),
   getRoomParticipantNo: (roomId: number) =>
     api.get<ApiResponse<RoomEnterResponse>>(`/api/room/${roomId}/enter`),
@@ -49,15 +59,25 @@ const roomApi = {
   // WebSocket 초기화
   initializeWebSocket: async () => {
     try {
-      const socket = new WebSocket('wss://i12d101.p.ssafy.io/ws-mafia');
-      // const socket = new WebSocket('ws://localhost:8080/ws-mafia');
-      stompClient = Stomp.over(socket);
+      // 소켓 대신 팩토리를 넘겨야 연결이 끊겼을 때 자동 재접속한다
+      stompClient = Stomp.over(() => {
+        const socket = new WebSocket('wss://i12d101.p.ssafy.io/ws-mafia');
+        // const socket = new WebSocket('ws://localhost:8080/ws-mafia');
+        socket.binaryType = 'arraybuffer'; // 위치 업데이트 바이너리 프레임 수신
+        return socket;
+      });
       stompClient.reconnect_delay = 5000;
+      let connected = false;
 
       stompClient.debug = () => {};
 
       return await new Promise<any>((resolve, reject) => {
-        const connectCallback = () => resolve(stompClient);
+        const connectCallback = () => {
+          // 재접속이면 구독을 다시 만들고 놓친 메시지를 요청하도록 알린다
+          if (connected) reconnectListeners.forEach((listener) => listener());
+          connected = true;
+          resolve(stompClient);
+        };
         const errorCallback = (error: any) => {
           console.error('WebSocket connection error:', error);
           reject(error);
@@ -78,13 +98,12 @@ const roomApi = {
     return response;
   },
 
-  subscribeLobby: (onRoomsUpdate: (rooms: Room[]) => void) => {
+  // 로비에는 짧은 주기 동안 바뀐 방들의 변경분(추가/변경/삭제) 목록이 온다
+  subscribeLobby: (onLobbyUpdate: (updates: LobbyUpdate[]) => void) => {
     if (!stompClient) return;
     return stompClient.subscribe('/topic/lobby', (message: any) => {
       try {
-        const rooms = JSON.parse(message.body);
-        // console.log('방 목록 웹소켓 데이터:', JSON.stringify(rooms, null, 2));
-        onRoomsUpdate(rooms);
+        onLobbyUpdate(JSON.parse(message.body));
       } catch (error) {
         console.error('Error processing room list:', error);
       }
@@ -231,6 +250,13 @@ const roomApi = {
   },
 
   getStompClient: () => stompClient,
+
+  onReconnect: (listener: () => void) => {
+    reconnectListeners.add(listener);
+    return () => {
+      reconnectListeners.delete(listener);
+    };
+  },
 };
 
 export default roomApi;
@@ -3,6 +3,7 @@ import Phaser, { Game } from 'phaser';
 // import SocketService from '@/game/socket/SocketService';
 
 import gameConfig from '@/game/gameConfig';
+import { decodePositions } from '@/game/utils/positionCodec';
 
 function GameComponent({
   roomId,
@@ -23,9 +24,10 @@ function GameComponent({
 
   useEffect(() => {
     if (stompClient?.connected) {
-      const subscription = stompClient?.subscribe(`/topic/game/${roomId}/positions`, (message) => {
-        const data = JSON.parse(message.body);
-        eventEmitter.emit('PLAYER_DATA_UPDATED', data);
+      const subscription = stompClient?.subscribe(`/user/queue/game/${roomId}/positions`, (message) => {
+        decodePositions(message.binaryBody).forEach((data) => {
+          eventEmitter.emit('PLAYER_DATA_UPDATED', data);
+        });
       });
 
       setPositionSubscription(subscription);
@@ -1,4 +1,5 @@
 import Phaser from 'phaser';
+import { sendPosition } from '@/game/utils/positionCodec';
 
 export default class Player extends Phaser.Physics.Arcade.Sprite {
   // scene: Phaser.Scene;
@@ -249,7 +250,7 @@ export default class Player extends Phaser.Physics.Arcade.Sprite {
       };
 
       const stompClient = this.scene.registry.get('stompClient');
-      stompClient.send(`/app/game/${roomId}/pos`, {}, JSON.stringify(updatedPlayerData));
+      sendPosition(stompClient, roomId, updatedPlayerData);
     }
   }
 
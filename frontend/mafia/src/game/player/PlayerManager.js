@@ -1,4 +1,5 @@
 import Player from '@/game/player/Player';
+import { sendPosition } from '@/game/utils/positionCodec';
 
 export default class PlayerManager {
   constructor(scene) {
@@ -135,7 +136,7 @@ export default class PlayerManager {
     this.localPlayer = player;
 
     const stompClient = this.scene.registry.get('stompClient');
-    stompClient.send(`/app/game/${roomId}/pos`, {}, JSON.stringify(data));
+    sendPosition(stompClient, roomId, data);
 
     this.players.set(userId, player);
   }
@@ -0,0 +1,64 @@
+// 위치 업데이트 바이너리 프레임 (백엔드 PositionCodec 과 같은 형식)
+// [0] 버전 [1] 플레이어 번호 [2] 캐릭터 코드 [3] 방향 코드
+// [4-5] x [6-7] y (unsigned, 1/4 px) [8-9] velocityX [10-11] velocityY (signed, 1/4 px/s)
+export const POSITION_FRAME_SIZE = 12;
+
+const VERSION = 1;
+const SCALE = 4;
+const UNKNOWN = 0xff;
+
+const CHARACTERS = ['character1', 'character2', 'character3', 'character4', 'character5'];
+const DIRECTIONS = ['down', 'left', 'right', 'up'];
+
+// 보낼 때마다 새 버퍼를 만들지 않도록 재사용 (WebSocket.send 가 호출 시점에 복사한다)
+const outBuffer = new Uint8Array(POSITION_FRAME_SIZE);
+const outView = new DataView(outBuffer.buffer);
+
+const clamp = (value, min, max) => Math.max(min, Math.min(max, Math.round(value * SCALE)));
+
+const codeOf = (table, value) => {
+  const index = table.indexOf(value);
+  return index < 0 ? UNKNOWN : index;
+};
+
+export function encodePosition(data) {
+  outView.setUint8(0, VERSION);
+  outView.setUint8(1, data.playerNo || 0);
+  outView.setUint8(2, codeOf(CHARACTERS, data.character));
+  outView.setUint8(3, codeOf(DIRECTIONS, data.lastDirection));
+  outView.setUint16(4, clamp(data.x, 0, 0xffff));
+  outView.setUint16(6, clamp(data.y, 0, 0xffff));
+  outView.setInt16(8, clamp(data.velocityX, -0x8000, 0x7fff));
+  outView.setInt16(10, clamp(data.velocityY, -0x8000, 0x7fff));
+  return outBuffer;
+}
+
+// 서버는 스냅샷 주기마다 움직인 플레이어들의 프레임을 이어붙여 보낸다
+export function decodePositions(bytes) {
+  if (!bytes || bytes.byteLength % POSITION_FRAME_SIZE !== 0) return [];
+
+  const view = new DataView(bytes.buffer, bytes.byteOffset, bytes.byteLength);
+  const positions = [];
+  for (let offset = 0; offset < bytes.byteLength; offset += POSITION_FRAME_SIZE) {
+    if (view.getUint8(offset) === VERSION) {
+      positions.push({
+        playerNo: view.getUint8(offset + 1),
+        character: CHARACTERS[view.getUint8(offset + 2)],
+        lastDirection: DIRECTIONS[view.getUint8(offset + 3)],
+        x: view.getUint16(offset + 4) / SCALE,
+        y: view.getUint16(offset + 6) / SCALE,
+        velocityX: view.getInt16(offset + 8) / SCALE,
+        velocityY: view.getInt16(offset + 10) / SCALE,
+      });
+    }
+  }
+  return positions;
+}
+
+export function sendPosition(stompClient, roomId, data) {
+  stompClient.publish({
+    destination: `/app/game/${roomId}/pos.bin`,
+    binaryBody: encodePosition(data),
+    headers: { 'content-type': 'application/octet-stream' },
+  });
+}
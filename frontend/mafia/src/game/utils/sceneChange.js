@@ -15,6 +15,18 @@ export default function sceneChanger(scene) {
     NIGHT_ACTION: 'NightScene',
   };
 
+  // 서버가 보낸 페이즈 종료 시각으로 남은 시간을 로컬에서 계산한다.
+  const updateRemainingTime = () => {
+    const phaseDeadline = scene.registry.get('phaseDeadline');
+    if (phaseDeadline === undefined) return;
+
+    const remainingTime = Math.max(0, Math.floor((phaseDeadline - performance.now()) / 1000));
+    if (scene.registry.get('remainingTime') !== remainingTime) {
+      scene.registry.set('remainingTime', remainingTime);
+    }
+  };
+  scene.time.addEvent({ delay: 250, loop: true, callback: updateRemainingTime });
+
   scene.events.on('shutdown', () => {
     eventEmitter.removeAllListeners();
 
@@ -35,7 +47,16 @@ export default function sceneChanger(scene) {
       if (!data) return;
 
       if (data.phase && data.time) {
-        scene.registry.set('remainingTime', data.time);
+        if (data.deadline && data.serverTime) {
+          // 서버 시계와의 차이를 없애기 위해 남은 밀리초를 로컬 단조 시계(performance.now) 기준으로 환산
+          scene.registry.set(
+            'phaseDeadline',
+            performance.now() + (Number(data.deadline) - Number(data.serverTime)),
+          );
+          updateRemainingTime();
+        } else {
+          scene.registry.set('remainingTime', data.time);
+        }
         // phase가 이전과 다를 때만 scene 변경
         if (previousPhase !== null && data.phase !== previousPhase) {
           const newSceneKey = phaseMapping[data.phase];
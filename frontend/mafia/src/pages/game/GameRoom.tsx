@@ -39,6 +39,9 @@ function GameRoom(): JSX.Element {
 
   const [activeSubscriptions, setActiveSubscriptions] = useState<StompSubscription[]>([]);
   const [subscriptions, setSubscriptions] = useState<string[]>([]);
+  // 재접속 시 놓친 메시지만 받기 위한 채널별 마지막 seq (epoch: 메시지를 보낸 서버 노드)
+  const replayCursors = useRef<{ epoch?: string; seqs: Record<string, number> }>({ seqs: {} });
+  const [connectionId, setConnectionId] = useState(0);
   const phaserEventEmitter = useRef(new Phaser.Events.EventEmitter());
 
   useEffect(() => {
@@ -105,6 +108,86 @@ function GameRoom(): JSX.Element {
     setPlayers(playersList);
   }, [participants, participantNo]);
 
+  useEffect(() => roomApi.onReconnect(() => setConnectionId((id) => id + 1)), []);
+
+  const handleChannelMessage = (subscription: string, body: string) => {
+    if (subscription.includes('system')) {
+      const data = JSON.parse(body);
+      if (data.phase && data.time) {
+        if (currentChatType === 'DEAD') return;
+        setCurrentChatType(data.phase === 'NIGHT_ACTION' ? 'NIGHT' : 'DAY');
+      }
+      phaserEventEmitter.current.emit('SYSTEM_MESSAGE', data);
+      return;
+    }
+
+    handleMessage(currentChatType, body);
+  };
+
+  // seq 헤더를 기록하고, 재전송과 실시간 수신이 겹쳐 이미 받은 메시지면 false
+  const acceptSeq = (subscription: string, epoch?: string, seq?: string) => {
+    if (!epoch || !seq) return true;
+    const cursors = replayCursors.current;
+    if (cursors.epoch !== epoch) {
+      cursors.epoch = epoch;
+      cursors.seqs = {};
+    }
+    const value = Number(seq);
+    if (value <= (cursors.seqs[subscription] ?? 0)) return false;
+    cursors.seqs[subscription] = value;
+    return true;
+  };
+
+  const reloadGame = async () => {
+    try {
+      const response = await axios.get(`/api/game/${roomId}`);
+      if (response.data.isSuccess) {
+        setGameState({ ...response.data.result, roomStatus: 'PLAYING' });
+        setSubscriptions(response.data.result.myInfo.subscriptions);
+      }
+    } catch (error) {
+      console.error('Failed to reload game info:', error);
+    }
+  };
+
+  const requestResume = () => {
+    const { epoch, seqs } = replayCursors.current;
+    if (!epoch || Object.keys(seqs).length === 0) return;
+
+    const resumeSub = stompClientRef.current.subscribe(
+      `/user/queue/game/${roomId}/resume`,
+      (msg: { body: string }) => {
+        resumeSub.unsubscribe();
+        let needsReload = false;
+        JSON.parse(msg.body).forEach(
+          (result: {
+            channel: string;
+            reset: boolean;
+            messages: { seq: number; payload: string }[];
+            latest?: string;
+          }) => {
+            if (result.reset) {
+              needsReload = true;
+              return;
+            }
+            result.messages.forEach(({ seq, payload }) => {
+              if (acceptSeq(result.channel, epoch, String(seq))) {
+                handleChannelMessage(result.channel, payload);
+              }
+            });
+            if (result.latest) handleChannelMessage(result.channel, result.latest);
+          },
+        );
+        if (needsReload) reloadGame();
+      },
+    );
+    stompClientRef.current.send(
+      `/app/game/${roomId}/resume`,
+      {},
+      JSON.stringify({ epoch, cursors: seqs }),
+    );
+  };
+
   useEffect(() => {
     if (!stompClientRef.current) return;
 
@@ -118,18 +201,9 @@ function GameRoom(): JSX.Element {
       subscriptions.forEach((subscription) => {
         const newActiveSub = stompClientRef.current.subscribe(
           `/topic/${subscription}`,
-          (msg: { body: string }) => {
-            if (subscription.includes('system')) {
-              const data = JSON.parse(msg.body);
-              if (data.phase && data.time) {
-                if (currentChatType === 'DEAD') return;
-                setCurrentChatType(data.phase === 'NIGHT_ACTION' ? 'NIGHT' : 'DAY');
-              }
-              phaserEventEmitter.current.emit('SYSTEM_MESSAGE', data);
-              return;
-            }
-
-            handleMessage(currentChatType, msg.body);
+          (msg: { body: string; headers: Record<string, string> }) => {
+            if (!acceptSeq(subscription, msg.headers.epoch, msg.headers.seq)) return;
+            handleChannelMessage(subscription, msg.body);
           },
         );
 
@@ -137,8 +211,11 @@ function GameRoom(): JSX.Element {
       });
 
       setActiveSubscriptions(newActiveSubs);
+
+      // 재접속 후에는 다시 구독한 뒤 끊긴 동안 놓친 메시지를 요청한다
+      if (connectionId > 0) requestResume();
     }
-  }, [roomId, gameState?.roomStatus, subscriptions]);
+  }, [roomId, gameState?.roomStatus, subscriptions, connectionId]);
 
   useEffect(() => {
     let roomSubscription: any = null;
@@ -34,6 +34,7 @@ const initialRoomState = {
 function GameLobby() {
   const navigate = useNavigate();
   const [rooms, setRooms] = useState<Room[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [showCreateModal, setShowCreateModal] = useState(false);
   const [showNicknameModal, setShowNicknameModal] = useState(false);
   const [searchTerm, setSearchTerm] = useState('');
@@ -48,49 +49,28 @@ function GameLobby() {
       try {
         await roomApi.initializeWebSocket();
 
-        roomApi.subscribeLobby(async (updatedRooms) => {
-          const detailedRooms = await Promise.all(
-            updatedRooms.map(async (room) => {
-              try {
-                const detailResponse = await roomApi.getRoom(room.roomId);
-                return {
-                  ...room,
-                  hasPassword: Boolean(detailResponse.data.result.password),
-                };
-              } catch (error) {
-                return {
-                  ...room,
-                  hasPassword: false,
-                };
+        roomApi.subscribeLobby((updates) => {
+          setRooms((prev) =>
+            updates.reduce((rooms, update) => {
+              const { room: changed } = update;
+              if (update.type === 'REMOVED' || !changed) {
+                return rooms.filter((room) => room.roomId !== update.roomId);
               }
-            }),
+              // 추가된 방은 뒤에 붙이고, 변경된 방은 제자리에서 바꾼다
+              if (!rooms.some((room) => room.roomId === update.roomId)) return [...rooms, changed];
+              return rooms.map((room) => (room.roomId === update.roomId ? changed : room));
+            }, prev),
           );
-          setRooms(detailedRooms);
         });
 
         const [roomsResponse, userResponse] = await Promise.all([
-          roomApi.getRooms(),
+          roomApi.getLobbyRooms(),
           api.get('/api/member'),
         ]);
 
-        const initialDetailedRooms = await Promise.all(
-          roomsResponse.data.result.map(async (room) => {
-            try {
-              const detailResponse = await roomApi.getRoom(room.roomId);
-              return {
-                ...room,
-                hasPassword: Boolean(detailResponse.data.result.password),
-              };
-            } catch (error) {
-              return {
-                ...room,
-                hasPassword: false,
-              };
-            }
-          }),
-        );
-
-        setRooms(initialDetailedRooms);
+        // 방 요약에 비밀번호 여부가 포함되어 방마다 상세 조회하지 않는다
+        setRooms(roomsResponse.data.result.rooms);
+        setNextCursor(roomsResponse.data.result.nextCursor);
         if (userResponse.data.isSuccess) {
           setNickname(userResponse.data.result.nickname);
         }
@@ -106,6 +86,22 @@ function GameLobby() {
     };
   }, []);
 
+  // 다음 페이지를 이어 붙인다 (그 사이 변경분으로 이미 받은 방은 건너뛴다)
+  const handleLoadMore = async () => {
+    if (!nextCursor) return;
+    try {
+      const response = await roomApi.getLobbyRooms(nextCursor);
+      const page = response.data.result;
+      setRooms((prev) => [
+        ...prev,
+        ...page.rooms.filter((room) => !prev.some((existing) => existing.roomId === room.roomId)),
+      ]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      console.error('Failed to load rooms:', error);
+    }
+  };
+
   const handleLogout = async () => {
     try {
       const response = await api.post('/api/logout');
@@ -325,6 +321,20 @@ function GameLobby() {
             searchTerm={searchTerm}
             onJoinRoom={handleJoinRoom}
           />
+          {nextCursor && (
+            <div className="mt-4 sm:mt-6 text-center">
+              <button
+                type="button"
+                onClick={handleLoadMore}
+                className="px-4 py-2 bg-gray-900 bg-opacity-90 text-gray-300 rounded-md 
+                  hover:bg-gray-800 transition-all duration-300 border-2 border-gray-700 
+                  hover:border-gray-500 shadow-lg hover:shadow-gray-900/50"
+                style={{ fontFamily: 'BMEuljiro10yearslater' }}
+              >
+                대피소 더 찾기
+              </button>
+            </div>
+          )}
         </div>
 
         {/* 모달들 */}
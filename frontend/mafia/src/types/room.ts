@@ -27,6 +27,18 @@ export interface Room {
   myInfo?: MyInfo;
 }
 
+// 로비 방 목록 한 페이지 (nextCursor가 null이면 마지막 페이지)
+export interface LobbyPage {
+  rooms: Room[];
+  nextCursor: string | null;
+}
+
+export interface LobbyUpdate {
+  type: 'ADDED' | 'UPDATED' | 'REMOVED';
+  roomId: number;
+  room: Room | null;
+}
+
 export interface GameStart {
   gameStart: string;
 }